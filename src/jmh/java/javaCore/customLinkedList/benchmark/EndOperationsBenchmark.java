@@ -0,0 +1,74 @@
+package javaCore.customLinkedList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EndOperationsBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"CUSTOM_LINKED_LIST", "CUSTOM_LINKED_LIST_POOLED", "ARRAY_LINKED_LIST", "CIRCULAR_ARRAY_LIST", "LINKED_LIST", "ARRAY_DEQUE", "ARRAY_LIST"})
+    private ListKind kind;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private ListAdapter<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = kind.filled(size);
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        list.addLast(ELEMENT);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addFirstRemoveLast() {
+        list.addFirst(ELEMENT);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Integer addLastRemoveLast() {
+        list.addLast(ELEMENT);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Integer addFirstRemoveFirst() {
+        list.addFirst(ELEMENT);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        list.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public String toStringAll() {
+        return list.toString();
+    }
+}
@@ -0,0 +1,194 @@
+package javaCore.customLinkedList.benchmark;
+
+import javaCore.customLinkedList.CustomList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Common surface over {@link CustomList} and the JDK collections it is benchmarked against.
+ */
+interface ListAdapter<E> {
+
+    void addFirst(E e);
+
+    void addLast(E e);
+
+    void add(int index, E e);
+
+    E get(int index);
+
+    E removeFirst();
+
+    E removeLast();
+
+    E remove(int index);
+
+    void forEach(Consumer<? super E> action);
+
+    static <E> ListAdapter<E> of(CustomList<E> list) {
+        return new ListAdapter<>() {
+            @Override
+            public void addFirst(E e) {
+                list.addFirst(e);
+            }
+
+            @Override
+            public void addLast(E e) {
+                list.addLast(e);
+            }
+
+            @Override
+            public void add(int index, E e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public E get(int index) {
+                return list.get(index);
+            }
+
+            @Override
+            public E removeFirst() {
+                return list.removeFirst();
+            }
+
+            @Override
+            public E removeLast() {
+                return list.removeLast();
+            }
+
+            @Override
+            public E remove(int index) {
+                return list.remove(index);
+            }
+
+            @Override
+            public void forEach(Consumer<? super E> action) {
+                list.forEach(action);
+            }
+
+            @Override
+            public String toString() {
+                return list.toString();
+            }
+        };
+    }
+
+    static <E> ListAdapter<E> of(LinkedList<E> list) {
+        return ofList(list, list);
+    }
+
+    static <E> ListAdapter<E> of(ArrayList<E> list) {
+        return new ListAdapter<>() {
+            @Override
+            public void addFirst(E e) {
+                list.add(0, e);
+            }
+
+            @Override
+            public void addLast(E e) {
+                list.add(e);
+            }
+
+            @Override
+            public void add(int index, E e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public E get(int index) {
+                return list.get(index);
+            }
+
+            @Override
+            public E removeFirst() {
+                return list.remove(0);
+            }
+
+            @Override
+            public E removeLast() {
+                return list.remove(list.size() - 1);
+            }
+
+            @Override
+            public E remove(int index) {
+                return list.remove(index);
+            }
+
+            @Override
+            public void forEach(Consumer<? super E> action) {
+                list.forEach(action);
+            }
+
+            @Override
+            public String toString() {
+                return list.toString();
+            }
+        };
+    }
+
+    static <E> ListAdapter<E> of(ArrayDeque<E> deque) {
+        return ofList(deque, null);
+    }
+
+    private static <E> ListAdapter<E> ofList(Deque<E> deque, List<E> list) {
+        return new ListAdapter<>() {
+            @Override
+            public void addFirst(E e) {
+                deque.addFirst(e);
+            }
+
+            @Override
+            public void addLast(E e) {
+                deque.addLast(e);
+            }
+
+            @Override
+            public void add(int index, E e) {
+                positional().add(index, e);
+            }
+
+            @Override
+            public E get(int index) {
+                return positional().get(index);
+            }
+
+            @Override
+            public E removeFirst() {
+                return deque.removeFirst();
+            }
+
+            @Override
+            public E removeLast() {
+                return deque.removeLast();
+            }
+
+            @Override
+            public E remove(int index) {
+                return positional().remove(index);
+            }
+
+            @Override
+            public void forEach(Consumer<? super E> action) {
+                deque.forEach(action);
+            }
+
+            @Override
+            public String toString() {
+                return deque.toString();
+            }
+
+            private List<E> positional() {
+                if (list == null) {
+                    throw new UnsupportedOperationException("Positional access isn't supported by " + deque.getClass());
+                }
+                return list;
+            }
+        };
+    }
+}
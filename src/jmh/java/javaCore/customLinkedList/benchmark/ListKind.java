@@ -0,0 +1,37 @@
+package javaCore.customLinkedList.benchmark;
+
+import javaCore.customLinkedList.ArrayLinkedListImpl;
+import javaCore.customLinkedList.CircularArrayListImpl;
+import javaCore.customLinkedList.CustomLinkedListImpl;
+import javaCore.customLinkedList.IndexedSkipListImpl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.function.Supplier;
+
+public enum ListKind {
+
+    CUSTOM_LINKED_LIST(() -> ListAdapter.of(new CustomLinkedListImpl<>())),
+    CUSTOM_LINKED_LIST_POOLED(() -> ListAdapter.of(new CustomLinkedListImpl<>(1024))),
+    ARRAY_LINKED_LIST(() -> ListAdapter.of(new ArrayLinkedListImpl<>())),
+    CIRCULAR_ARRAY_LIST(() -> ListAdapter.of(new CircularArrayListImpl<>())),
+    INDEXED_SKIP_LIST(() -> ListAdapter.of(new IndexedSkipListImpl<>())),
+    LINKED_LIST(() -> ListAdapter.of(new LinkedList<>())),
+    ARRAY_DEQUE(() -> ListAdapter.of(new ArrayDeque<>())),
+    ARRAY_LIST(() -> ListAdapter.of(new ArrayList<>()));
+
+    private final Supplier<ListAdapter<Integer>> factory;
+
+    ListKind(Supplier<ListAdapter<Integer>> factory) {
+        this.factory = factory;
+    }
+
+    ListAdapter<Integer> filled(int size) {
+        ListAdapter<Integer> list = factory.get();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,60 @@
+package javaCore.customLinkedList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionalOperationsBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"CUSTOM_LINKED_LIST", "ARRAY_LINKED_LIST", "CIRCULAR_ARRAY_LIST", "INDEXED_SKIP_LIST",
+            "LINKED_LIST", "ARRAY_LIST"})
+    private ListKind kind;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private ListAdapter<Integer> list;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        list = kind.filled(size);
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Integer middleInsertRemove() {
+        int middle = size / 2;
+        list.add(middle, ELEMENT);
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer getRandom() {
+        return list.get(random.nextInt(size));
+    }
+}
@@ -0,0 +1,81 @@
+package javaCore.customLinkedList.benchmark;
+
+import javaCore.customLinkedList.CustomLinkedListImpl;
+import javaCore.customLinkedList.CustomList;
+import javaCore.customLinkedList.StampedLockListImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 19 readers against one writer sharing a list: {@link StampedLockListImpl} against
+ * {@link CustomLinkedListImpl} guarded by a mutex.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadMostlyBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    @Param({"STAMPED_LOCK", "SYNCHRONIZED"})
+    private String guard;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private CustomList<Integer> list;
+    private Object mutex;
+
+    @Setup
+    public void setUp() {
+        list = "STAMPED_LOCK".equals(guard) ? new StampedLockListImpl<>() : new CustomLinkedListImpl<>();
+        mutex = "STAMPED_LOCK".equals(guard) ? null : new Object();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(19)
+    public Integer read() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        if (mutex == null) {
+            return list.get(index);
+        }
+        synchronized (mutex) {
+            return list.get(index);
+        }
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Integer write() {
+        if (mutex == null) {
+            list.addLast(ELEMENT);
+            return list.removeFirst();
+        }
+        synchronized (mutex) {
+            list.addLast(ELEMENT);
+            return list.removeFirst();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package javaCore.customLinkedList;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Doubly linked {@link CustomList} without node objects: elements sit in an {@code Object[]} and
+ * their links in parallel {@code int[]} arrays, with freed slots chained into a free list for
+ * reuse. Positional access walks from the nearest end.
+ * <p>
+ * The {@code *Handle} methods expose slot indexes as stable handles: a handle keeps pointing at
+ * its element while other elements are added or removed, so {@link #removeHandle(int)} and
+ * {@link #getByHandle(int)} are O(1). A handle is valid only until its element is removed; the slot
+ * may then be reused by a later insertion.
+ */
+public class ArrayLinkedListImpl<E> implements CustomList<E>, Introspectable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NONE = -1;
+    private static final int FREE = -2;
+
+    private Object[] elements;
+    private int[] next;
+    private int[] prev;
+    private int head = NONE;
+    private int tail = NONE;
+    private int freeHead = NONE;
+    private int used;
+    private int size;
+    private int modCount;
+    private long walkedLinks;
+
+    public ArrayLinkedListImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ArrayLinkedListImpl(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Incorrect initial capacity provided: " + initialCapacity);
+        }
+        this.elements = new Object[initialCapacity];
+        this.next = new int[initialCapacity];
+        this.prev = new int[initialCapacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        addFirstHandle(e);
+    }
+
+    public int addFirstHandle(E e) {
+        return link(NONE, e, head);
+    }
+
+    @Override
+    public void addLast(E e) {
+        addLastHandle(e);
+    }
+
+    public int addLastHandle(E e) {
+        return link(tail, e, NONE);
+    }
+
+    @Override
+    public void add(int index, E e) {
+        addHandle(index, e);
+    }
+
+    public int addHandle(int index, E e) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        if (index == size) {
+            return link(tail, e, NONE);
+        }
+        int after = slotAt(index);
+        return link(prev[after], e, after);
+    }
+
+    private int link(int prior, E e, int after) {
+        int slot = allocateSlot();
+        elements[slot] = e;
+        prev[slot] = prior;
+        next[slot] = after;
+        if (prior == NONE) {
+            head = slot;
+        } else {
+            next[prior] = slot;
+        }
+        if (after == NONE) {
+            tail = slot;
+        } else {
+            prev[after] = slot;
+        }
+        size++;
+        modCount++;
+        return slot;
+    }
+
+    private int allocateSlot() {
+        if (freeHead != NONE) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if (used == elements.length) {
+            if (used == Integer.MAX_VALUE - 8) {
+                throw new IllegalStateException("List capacity exceeded: " + used);
+            }
+            int grown = (int) Math.min((long) used * 2, Integer.MAX_VALUE - 8);
+            elements = Arrays.copyOf(elements, grown);
+            next = Arrays.copyOf(next, grown);
+            prev = Arrays.copyOf(prev, grown);
+        }
+        return used++;
+    }
+
+    @Override
+    public E getFirst() {
+        checkNotEmpty();
+        return elementAt(head);
+    }
+
+    @Override
+    public E getLast() {
+        checkNotEmpty();
+        return elementAt(tail);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return elementAt(slotAt(index));
+    }
+
+    public E getByHandle(int handle) {
+        checkHandle(handle);
+        return elementAt(handle);
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotEmpty();
+        return unlink(head);
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotEmpty();
+        return unlink(tail);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        return unlink(slotAt(index));
+    }
+
+    public E removeHandle(int handle) {
+        checkHandle(handle);
+        return unlink(handle);
+    }
+
+    private E unlink(int slot) {
+        int prior = prev[slot];
+        int after = next[slot];
+        if (prior == NONE) {
+            head = after;
+        } else {
+            next[prior] = after;
+        }
+        if (after == NONE) {
+            tail = prior;
+        } else {
+            prev[after] = prior;
+        }
+        E element = elementAt(slot);
+        elements[slot] = null;
+        prev[slot] = FREE;
+        next[slot] = freeHead;
+        freeHead = slot;
+
+        size--;
+        modCount++;
+        return element;
+    }
+
+    private int slotAt(int index) {
+        if (index <= size / 2) {
+            walkedLinks += index;
+            int slot = head;
+            for (int i = 0; i < index; i++) {
+                slot = next[slot];
+            }
+            return slot;
+        }
+        walkedLinks += size - 1 - index;
+        int slot = tail;
+        for (int i = size - 1; i > index; i--) {
+            slot = prev[slot];
+        }
+        return slot;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    private void checkHandle(int handle) {
+        if (handle < 0 || handle >= used || prev[handle] == FREE) {
+            throw new IllegalArgumentException("Incorrect handle provided: " + handle);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) elements[slot];
+    }
+
+    @Override
+    public long estimatedRetainedBytes() {
+        return ListProbes.objectBytes(3 * ListProbes.REFERENCE_BYTES + 6 * ListProbes.INT_BYTES + ListProbes.LONG_BYTES)
+                + ListProbes.arrayBytes(elements.length, ListProbes.REFERENCE_BYTES)
+                + ListProbes.arrayBytes(next.length, ListProbes.INT_BYTES)
+                + ListProbes.arrayBytes(prev.length, ListProbes.INT_BYTES);
+    }
+
+    @Override
+    public long walkedLinks() {
+        return walkedLinks;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int slot = head; slot != NONE; slot = next[slot]) {
+            joiner.add(String.valueOf(elements[slot]));
+        }
+        return joiner.toString();
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private int nextSlot = head;
+        private int lastReturned = NONE;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot != NONE;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextSlot == NONE) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            lastReturned = nextSlot;
+            nextSlot = next[nextSlot];
+            return elementAt(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == NONE) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            unlink(lastReturned);
+            lastReturned = NONE;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
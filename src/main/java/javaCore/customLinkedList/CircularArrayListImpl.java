@@ -0,0 +1,164 @@
+package javaCore.customLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * {@link CustomList} over a growable ring buffer with power-of-two capacity: end operations are
+ * amortized O(1), {@code get(int)} is O(1) and positional changes shift the shorter side.
+ */
+public class CircularArrayListImpl<E> implements CustomList<E>, Introspectable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final RingBuffer<E> ring;
+    private int modCount;
+
+    public CircularArrayListImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CircularArrayListImpl(int initialCapacity) {
+        this.ring = new RingBuffer<>(initialCapacity);
+    }
+
+    @Override
+    public int size() {
+        return ring.size;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        ring.insert(0, e);
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        ring.insert(ring.size, e);
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, E e) {
+
+        if (index < 0 || index > ring.size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        ring.insert(index, e);
+        modCount++;
+    }
+
+    @Override
+    public E getFirst() {
+        checkNotEmpty();
+        return ring.get(0);
+    }
+
+    @Override
+    public E getLast() {
+        checkNotEmpty();
+        return ring.get(ring.size - 1);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return ring.get(index);
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotEmpty();
+        modCount++;
+        return ring.delete(0);
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotEmpty();
+        modCount++;
+        return ring.delete(ring.size - 1);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        modCount++;
+        return ring.delete(index);
+    }
+
+    private void checkNotEmpty() {
+        if (ring.size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > ring.size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    @Override
+    public long estimatedRetainedBytes() {
+        return ListProbes.objectBytes(ListProbes.REFERENCE_BYTES + ListProbes.INT_BYTES)
+                + ring.estimatedRetainedBytes();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < ring.size; i++) {
+            joiner.add(String.valueOf(ring.get(i)));
+        }
+        return joiner.toString();
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < ring.size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= ring.size) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            canRemove = true;
+            return ring.get(nextIndex++);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            CircularArrayListImpl.this.remove(--nextIndex);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
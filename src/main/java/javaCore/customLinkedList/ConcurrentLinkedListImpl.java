@@ -0,0 +1,212 @@
+package javaCore.customLinkedList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe {@link CustomList} whose deque ends are lock-free: every end operation is a CAS on
+ * a {@link ConcurrentLinkedDeque}, so producers and consumers never block each other.
+ * <p>
+ * The end operations are linearizable; {@link #size()} is only quiescently consistent. Positional
+ * operations are weakly consistent: {@code get(int)} and {@code remove(int)} walk the deque as it
+ * is at that moment and iterators never throw {@link java.util.ConcurrentModificationException}.
+ * The deque can't link a cell in place, so {@code add(int, E)} only supports the two ends and
+ * throws {@link UnsupportedOperationException} for the middle. Null elements aren't permitted.
+ */
+public class ConcurrentLinkedListImpl<E> implements CustomList<E>, Introspectable {
+
+    private final ConcurrentLinkedDeque<Cell<E>> deque;
+    private final LongAdder size;
+
+    public ConcurrentLinkedListImpl() {
+        this.deque = new ConcurrentLinkedDeque<>();
+        this.size = new LongAdder();
+    }
+
+    /**
+     * The size is quiescently consistent rather than linearizable: it's exact whenever no update is
+     * in progress, but while other threads add or remove it may be off by the number of operations
+     * in flight, since the counter is updated right after the deque itself. It's never negative.
+     */
+    @Override
+    public int size() {
+        return (int) Math.max(0, size.sum());
+    }
+
+    @Override
+    public void addFirst(E e) {
+        deque.addFirst(new Cell<>(e));
+        size.increment();
+    }
+
+    @Override
+    public void addLast(E e) {
+        deque.addLast(new Cell<>(e));
+        size.increment();
+    }
+
+    @Override
+    public void add(int index, E e) {
+        int currentSize = size();
+        if (index < 0 || index > currentSize) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        if (index == 0) {
+            addFirst(e);
+        } else if (index == currentSize) {
+            addLast(e);
+        } else {
+            throw new UnsupportedOperationException("Insertion into the middle isn't supported: " + index);
+        }
+    }
+
+    @Override
+    public E getFirst() {
+        return elementOf(deque.peekFirst());
+    }
+
+    @Override
+    public E getLast() {
+        return elementOf(deque.peekLast());
+    }
+
+    @Override
+    public E get(int index) {
+        return elementOf(cellAt(index));
+    }
+
+    @Override
+    public E removeFirst() {
+        Cell<E> removed = deque.pollFirst();
+        if (removed != null) {
+            size.decrement();
+        }
+        return elementOf(removed);
+    }
+
+    @Override
+    public E removeLast() {
+        Cell<E> removed = deque.pollLast();
+        if (removed != null) {
+            size.decrement();
+        }
+        return elementOf(removed);
+    }
+
+    @Override
+    public E remove(int index) {
+        Cell<E> toRemove = cellAt(index);
+        if (!unlink(toRemove)) {
+            throw new IllegalArgumentException("Element at index was removed concurrently: " + index);
+        }
+        return toRemove.element;
+    }
+
+    private Cell<E> cellAt(int index) {
+        checkIndex(index);
+        Iterator<Cell<E>> iterator = deque.iterator();
+        for (int i = 0; iterator.hasNext(); i++) {
+            Cell<E> cell = iterator.next();
+            if (i == index) {
+                return cell;
+            }
+        }
+        throw new IllegalArgumentException("Incorrect index provided: " + index);
+    }
+
+    private boolean unlink(Cell<E> cell) {
+        // cells compare by identity, so only the thread that actually unlinked it gets true
+        boolean removed = deque.removeFirstOccurrence(cell);
+        if (removed) {
+            size.decrement();
+        }
+        return removed;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    private E elementOf(Cell<E> cell) {
+        if (cell == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return cell.element;
+    }
+
+    /**
+     * Based on the quiescently consistent size. Walks aren't reported, since lookups from other
+     * threads would be counted too.
+     */
+    @Override
+    public long estimatedRetainedBytes() {
+        long cellBytes = ListProbes.objectBytes(3 * ListProbes.REFERENCE_BYTES)
+                + ListProbes.objectBytes(ListProbes.REFERENCE_BYTES);
+        return ListProbes.objectBytes(2 * ListProbes.REFERENCE_BYTES)
+                + ListProbes.objectBytes(2 * ListProbes.REFERENCE_BYTES)
+                + ListProbes.objectBytes(ListProbes.REFERENCE_BYTES + ListProbes.LONG_BYTES + ListProbes.INT_BYTES)
+                + size() * cellBytes;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<Cell<E>> cells = deque.iterator();
+        return new Iterator<>() {
+
+            private Cell<E> lastReturned;
+
+            @Override
+            public boolean hasNext() {
+                return cells.hasNext();
+            }
+
+            @Override
+            public E next() {
+                lastReturned = cells.next();
+                return lastReturned.element;
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null) {
+                    throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+                }
+                unlink(lastReturned);
+                lastReturned = null;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL
+                | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public String toString() {
+        return deque.toString();
+    }
+
+    private static final class Cell<E> {
+
+        private final E element;
+
+        private Cell(E element) {
+            this.element = Objects.requireNonNull(element, "Null elements aren't permitted");
+        }
+
+        @Override
+        public String toString() {
+            return element.toString();
+        }
+    }
+}
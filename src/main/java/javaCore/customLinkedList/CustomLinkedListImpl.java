@@ -1,17 +1,55 @@
 package javaCore.customLinkedList;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public class CustomLinkedListImpl<E> implements CustomList<E> {
+public class CustomLinkedListImpl<E> implements CustomList<E>, Introspectable {
 
     private Node<E> head;
     private Node<E> tail;
     private int size;
+    private int modCount;
+
+    /**
+     * Finger to the last node reached by index, so index-sequential access continues from there
+     * instead of restarting at {@code head} or {@code tail}. Kept in sync by every structural change.
+     */
+    private Node<E> cursor;
+    private int cursorIndex;
+    private long walkedLinks;
+
+    /**
+     * Free list of unlinked nodes chained through {@code next}, reused by later insertions so
+     * steady-state queue churn doesn't allocate. Disabled when the capacity is zero.
+     */
+    private final int nodePoolCapacity;
+    private Node<E> nodePool;
+    private int pooledNodes;
+
+    /**
+     * Token shared by the nodes of this list, checked when a handle is used. Spliced-in nodes keep
+     * the donor's old token, which forwards to this one.
+     */
+    private Owner owner = new Owner();
 
     public CustomLinkedListImpl() {
+        this(0);
+    }
+
+    public CustomLinkedListImpl(int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("Node pool capacity can't be negative: " + nodePoolCapacity);
+        }
+        this.nodePoolCapacity = nodePoolCapacity;
     }
 
     @Override
@@ -21,25 +59,36 @@ public class CustomLinkedListImpl<E> implements CustomList<E> {
 
     @Override
     public void addFirst(E e) {
-        if (isFirstAdd()) {
-            addFirstEver(e);
-        } else {
-            addAsHead(e);
-        }
+        linkFirst(e);
+    }
+
+    public Handle<E> addFirstHandle(E e) {
+        Node<E> added = linkFirst(e);
+        added.exposed = true;
+        return added;
+    }
+
+    private Node<E> linkFirst(E e) {
+        Node<E> added = isFirstAdd() ? addFirstEver(e) : addAsHead(e);
         size++;
+        modCount++;
+        return added;
     }
 
-    private void addAsHead(E e) {
+    private Node<E> addAsHead(E e) {
         Node<E> old = head;
-        Node<E> newNode = new Node<>(null, e, old);
+        Node<E> newNode = obtainNode(null, e, old);
         old.prev = newNode;
         head = newNode;
+        cursorIndex++;
+        return newNode;
     }
 
-    private void addFirstEver(E e) {
-        Node<E> node = new Node<>(null, e, null);
+    private Node<E> addFirstEver(E e) {
+        Node<E> node = obtainNode(null, e, null);
         head = node;
         tail = node;
+        return node;
     }
 
     private boolean isFirstAdd() {
@@ -48,19 +97,28 @@ public class CustomLinkedListImpl<E> implements CustomList<E> {
 
     @Override
     public void addLast(E e) {
-        if (isFirstAdd()) {
-            addFirstEver(e);
-        } else {
-            addAsTail(e);
-        }
+        linkLast(e);
+    }
+
+    public Handle<E> addLastHandle(E e) {
+        Node<E> added = linkLast(e);
+        added.exposed = true;
+        return added;
+    }
+
+    private Node<E> linkLast(E e) {
+        Node<E> added = isFirstAdd() ? addFirstEver(e) : addAsTail(e);
         size++;
+        modCount++;
+        return added;
     }
 
-    private void addAsTail(E e) {
+    private Node<E> addAsTail(E e) {
         Node<E> old = tail;
-        Node<E> newNode = new Node<>(old, e, null);
+        Node<E> newNode = obtainNode(old, e, null);
         old.next = newNode;
         tail = newNode;
+        return newNode;
     }
 
     @Override
@@ -79,16 +137,315 @@ public class CustomLinkedListImpl<E> implements CustomList<E> {
         } else {
             Node<E> prev = iterateToElementByIndex(index - 1);
             Node<E> next = prev.next;
-            Node<E> newNode = new Node<>(prev, e, next);
+            Node<E> newNode = obtainNode(prev, e, next);
             prev.next = newNode;
             next.prev = newNode;
+            cursor = newNode;
+            cursorIndex = index;
         }
 
         size++;
+        modCount++;
+    }
+
+    @Override
+    public void addAll(int index, Collection<? extends E> elements) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+        if (elements.isEmpty()) {
+            return;
+        }
+
+        Node<E> after = index == size ? null : iterateToElementByIndex(index);
+        Node<E> prior = after == null ? tail : after.prev;
+        Node<E> first = null;
+        Node<E> last = prior;
+        int added = 0;
+        for (E e : elements) {
+            Node<E> newNode = obtainNode(last, e, null);
+            if (first == null) {
+                first = newNode;
+            } else {
+                last.next = newNode;
+            }
+            last = newNode;
+            added++;
+        }
+        if (prior == null) {
+            head = first;
+        } else {
+            prior.next = first;
+        }
+        last.next = after;
+        if (after == null) {
+            tail = last;
+        } else {
+            after.prev = last;
+        }
+
+        cursor = null;
+        size += added;
+        modCount++;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+            throw new IllegalArgumentException("Incorrect range provided: [" + fromIndex + ", " + toIndex + ")");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        Node<E> current = iterateToElementByIndex(fromIndex);
+        Node<E> prior = current.prev;
+        for (int i = fromIndex; i < toIndex; i++) {
+            Node<E> next = current.next;
+            recycle(current);
+            current = next;
+        }
+        if (prior == null) {
+            head = current;
+        } else {
+            prior.next = current;
+        }
+        if (current == null) {
+            tail = prior;
+        } else {
+            current.prev = prior;
+        }
+
+        cursor = null;
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    /**
+     * Relinks the nodes of another {@code CustomLinkedListImpl} in O(1); other lists are drained
+     * element by element.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void splice(CustomList<? extends E> other) {
+        if (!(other instanceof CustomLinkedListImpl<?> donor)) {
+            CustomList.super.splice(other);
+            return;
+        }
+        if (donor == this) {
+            throw new IllegalArgumentException("A list can't be spliced into itself");
+        }
+        if (donor.size == 0) {
+            return;
+        }
+
+        Node<E> first = (Node<E>) donor.head;
+        if (tail == null) {
+            head = first;
+        } else {
+            tail.next = first;
+            first.prev = tail;
+        }
+        tail = (Node<E>) donor.tail;
+        size += donor.size;
+        modCount++;
+
+        donor.owner.forward = owner;
+        donor.owner = new Owner();
+        donor.head = null;
+        donor.tail = null;
+        donor.cursor = null;
+        donor.size = 0;
+        donor.modCount++;
+    }
+
+    /**
+     * Cuts this list at {@code index}: elements from {@code index} to the end are moved into
+     * the returned list, walking to the cut point once and then over the shorter part, whose
+     * handles are moved to their new list.
+     */
+    public CustomLinkedListImpl<E> split(int index) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        CustomLinkedListImpl<E> suffix = new CustomLinkedListImpl<>(nodePoolCapacity);
+        if (index == size) {
+            return suffix;
+        }
+
+        Node<E> first = iterateToElementByIndex(index);
+        Node<E> last = tail;
+        Node<E> prior = first.prev;
+        if (prior == null) {
+            head = null;
+        } else {
+            prior.next = null;
+        }
+        tail = prior;
+        first.prev = null;
+
+        suffix.head = first;
+        suffix.tail = last;
+        suffix.size = size - index;
+        suffix.modCount++;
+
+        if (suffix.size <= index) {
+            suffix.owner.claim(first);
+        } else {
+            suffix.owner = owner;
+            owner = new Owner();
+            owner.claim(head);
+        }
+
+        cursor = null;
+        size = index;
+        modCount++;
+        return suffix;
+    }
+
+    /**
+     * Stable bottom-up merge sort that relinks nodes in place: O(n log n) comparisons, no element
+     * copies and O(1) extra space. A {@code null} comparator sorts by natural ordering. If the
+     * comparator throws, the pass in progress is completed without further comparisons, so the list
+     * keeps all of its elements in an unspecified order.
+     */
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = comparator == null ? (Comparator<? super E>) Comparator.naturalOrder()
+                                                         : comparator;
+        if (size < 2) {
+            return;
+        }
+        cursor = null;
+        modCount++;
+
+        Node<E> list = head;
+        RuntimeException failure = null;
+        for (int runSize = 1; ; runSize *= 2) {
+            Node<E> left = list;
+            Node<E> last = null;
+            list = null;
+            int merges = 0;
+            while (left != null) {
+                merges++;
+                Node<E> right = left;
+                int leftSize = 0;
+                while (leftSize < runSize && right != null) {
+                    leftSize++;
+                    right = right.next;
+                }
+                int rightSize = runSize;
+                while (leftSize > 0 || (rightSize > 0 && right != null)) {
+                    boolean takeLeft;
+                    if (leftSize == 0) {
+                        takeLeft = false;
+                    } else if (rightSize == 0 || right == null || failure != null) {
+                        takeLeft = true;
+                    } else {
+                        try {
+                            takeLeft = order.compare(left.element, right.element) <= 0;
+                        } catch (RuntimeException e) {
+                            failure = e;
+                            takeLeft = true;
+                        }
+                    }
+                    Node<E> taken;
+                    if (takeLeft) {
+                        taken = left;
+                        left = left.next;
+                        leftSize--;
+                    } else {
+                        taken = right;
+                        right = right.next;
+                        rightSize--;
+                    }
+                    if (last == null) {
+                        list = taken;
+                    } else {
+                        last.next = taken;
+                    }
+                    taken.prev = last;
+                    last = taken;
+                }
+                left = right;
+            }
+            last.next = null;
+            head = list;
+            tail = last;
+            if (failure != null) {
+                throw failure;
+            }
+            if (merges <= 1) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Leaves the cursor at the found element, so a following positional access to it is O(1).
+     */
+    @Override
+    public int indexOf(Object o) {
+        int index = 0;
+        for (Node<E> current = head; current != null; current = current.next) {
+            if (Objects.equals(o, current.element)) {
+                cursor = current;
+                cursorIndex = index;
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int sizeBefore = size;
+        int index = 0;
+        Node<E> current = head;
+        while (current != null) {
+            Node<E> next = current.next;
+            if (filter.test(current.element)) {
+                unlink(current, index);
+            } else {
+                index++;
+            }
+            current = next;
+        }
+        return size != sizeBefore;
     }
 
     private Node<E> iterateToElementByIndex(int index) {
-        return size / 2 >= index ? iterateToIndexForward(index) : iterateToIndexBackward(index);
+        int distanceToEnd = Math.min(index, size - 1 - index);
+        Node<E> found;
+        if (cursor != null && Math.abs(index - cursorIndex) < distanceToEnd) {
+            walkedLinks += Math.abs(index - cursorIndex);
+            found = iterateFromCursor(index);
+        } else if (size / 2 >= index) {
+            walkedLinks += index;
+            found = iterateToIndexForward(index);
+        } else {
+            walkedLinks += size - 1 - index;
+            found = iterateToIndexBackward(index);
+        }
+        cursor = found;
+        cursorIndex = index;
+        return found;
+    }
+
+    private Node<E> iterateFromCursor(int index) {
+        Node<E> current = cursor;
+        for (int counter = cursorIndex; counter < index; counter++) {
+            current = current.next;
+        }
+        for (int counter = cursorIndex; counter > index; counter--) {
+            current = current.prev;
+        }
+        return current;
     }
 
     @Override
@@ -122,7 +479,7 @@ public class CustomLinkedListImpl<E> implements CustomList<E> {
     @Override
     public E get(int index) {
         checkIndex(index);
-        Node<E> received = iterateToIndexForward(index);
+        Node<E> received = iterateToElementByIndex(index);
         return received.element;
     }
 
@@ -155,38 +512,158 @@ public class CustomLinkedListImpl<E> implements CustomList<E> {
     @Override
     public E removeFirst() {
         Node<E> toRemove = getHeadNode();
-        Node<E> newHead = toRemove.next;
-        newHead.prev = null;
-        head = newHead;
-        size--;
-        return toRemove.element;
+        return unlink(toRemove, 0);
     }
 
     @Override
     public E removeLast() {
         Node<E> toRemove = getTailNode();
-        Node<E> newTail = toRemove.prev;
-        newTail.next = null;
-        tail = newTail;
-        size--;
-        return toRemove.element;
+        return unlink(toRemove, size - 1);
     }
 
     @Override
     public E remove(int index) {
         checkIndex(index);
         Node<E> toRemove = iterateToElementByIndex(index);
+        return unlink(toRemove, index);
+    }
+
+    /**
+     * Removes the element behind a handle returned by this list in O(1).
+     */
+    public E remove(Handle<E> handle) {
+        return unlink(linkedNode(handle), -1);
+    }
+
+    /**
+     * Makes the element behind a handle returned by this list the first one in O(1).
+     */
+    public void moveToFront(Handle<E> handle) {
+        Node<E> node = linkedNode(handle);
+        if (node == head) {
+            return;
+        }
+        Node<E> prior = node.prev;
+        Node<E> after = node.next;
+        prior.next = after;
+        if (after == null) {
+            tail = prior;
+        } else {
+            after.prev = prior;
+        }
+        node.prev = null;
+        node.next = head;
+        head.prev = node;
+        head = node;
+
+        cursor = null;
+        modCount++;
+    }
+
+    /**
+     * Rejects handles of other lists and handles whose elements were already removed.
+     */
+    private Node<E> linkedNode(Handle<E> handle) {
+        if (!(handle instanceof Node<E> node) || node.owner == null || node.owner.resolve() != owner) {
+            throw new IllegalArgumentException("Incorrect handle provided: " + handle);
+        }
+        return node;
+    }
+
+    private E unlink(Node<E> toRemove, int index) {
         Node<E> prior = toRemove.prev;
         Node<E> after = toRemove.next;
-        if (prior != null) {
+        moveCursorOff(toRemove, index);
+        if (prior == null) {
+            head = after;
+        } else {
             prior.next = after;
         }
-        if (after != null) {
+        if (after == null) {
+            tail = prior;
+        } else {
             after.prev = prior;
         }
+        E element = toRemove.element;
+        recycle(toRemove);
 
         size--;
-        return toRemove.element;
+        modCount++;
+        return element;
+    }
+
+    private Node<E> obtainNode(Node<E> prev, E e, Node<E> next) {
+        Node<E> node = nodePool;
+        if (node == null) {
+            return new Node<>(owner, prev, e, next);
+        }
+        nodePool = node.next;
+        pooledNodes--;
+        node.owner = owner;
+        node.prev = prev;
+        node.element = e;
+        node.next = next;
+        return node;
+    }
+
+    /**
+     * Nodes handed out as handles aren't pooled, so a stale handle never matches a reused node.
+     */
+    private void recycle(Node<E> node) {
+        node.owner = null;
+        node.prev = null;
+        node.element = null;
+        if (pooledNodes < nodePoolCapacity && !node.exposed) {
+            node.next = nodePool;
+            nodePool = node;
+            pooledNodes++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    /**
+     * @param index position of the removed node, or -1 if unknown, which drops the cursor
+     */
+    private void moveCursorOff(Node<E> toRemove, int index) {
+        if (cursor == null) {
+            return;
+        }
+        if (cursor == toRemove) {
+            if (toRemove.next != null) {
+                cursor = toRemove.next;
+            } else {
+                cursor = toRemove.prev;
+                cursorIndex--;
+            }
+        } else if (index < 0) {
+            cursor = null;
+        } else if (index < cursorIndex) {
+            cursorIndex--;
+        }
+    }
+
+    @Override
+    public long estimatedRetainedBytes() {
+        long listBytes = ListProbes.objectBytes(5 * ListProbes.REFERENCE_BYTES + 5 * ListProbes.INT_BYTES
+                                                        + ListProbes.LONG_BYTES);
+        // a node's boolean fits in the padding after its references
+        return listBytes + (long) (size + pooledNodes) * ListProbes.objectBytes(4 * ListProbes.REFERENCE_BYTES + 1);
+    }
+
+    @Override
+    public long walkedLinks() {
+        return walkedLinks;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator(head, size, modCount);
     }
 
     @Override
@@ -196,18 +673,199 @@ public class CustomLinkedListImpl<E> implements CustomList<E> {
                      .collect(Collectors.joining(", ", "[", "]"));
     }
 
-    private static class Node<E> {
+    private class Itr implements Iterator<E> {
+
+        private Node<E> next = head;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.element;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            unlink(lastReturned, --nextIndex);
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Splits its range in halves, walking to the middle node, so fork-join workers receive balanced
+     * chunks instead of the array-batched prefixes produced by iterator-based spliterators.
+     */
+    private final class NodeSpliterator implements Spliterator<E> {
+
+        private final int expectedModCount;
+        private Node<E> current;
+        private int remaining;
+
+        private NodeSpliterator(Node<E> current, int remaining, int expectedModCount) {
+            this.current = current;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            if (remaining <= 0) {
+                return false;
+            }
+            checkForComodification();
+            Node<E> node = current;
+            if (node == null) {
+                throw new ConcurrentModificationException();
+            }
+            current = node.next;
+            remaining--;
+            action.accept(node.element);
+            checkForComodification();
+            return true;
+        }
+
+        /**
+         * Checks for modification before every node is read, so a list changed by the action fails
+         * with {@link ConcurrentModificationException} before the walk reaches unlinked or pooled nodes.
+         */
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Node<E> node = current;
+            int count = remaining;
+            current = null;
+            remaining = 0;
+            for (; count > 0 && node != null; count--) {
+                checkForComodification();
+                action.accept(node.element);
+                node = node.next;
+            }
+            checkForComodification();
+            if (count > 0) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (remaining < 2) {
+                return null;
+            }
+            checkForComodification();
+            int half = remaining / 2;
+            Node<E> prefixStart = current;
+            Node<E> middle = current;
+            for (int i = 0; i < half && middle != null; i++) {
+                middle = middle.next;
+            }
+            if (middle == null) {
+                throw new ConcurrentModificationException();
+            }
+            current = middle;
+            remaining -= half;
+            return new NodeSpliterator(prefixStart, half, expectedModCount);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Stable reference to an element of a {@code CustomLinkedListImpl}, valid until the element is
+     * removed. A handle belongs to the list currently holding its element, so it follows the element
+     * through {@code split} and {@code splice}; handles of removed elements and of other lists are
+     * rejected.
+     */
+    public interface Handle<E> {
+
+        E element();
+    }
+
+    private static class Node<E> implements Handle<E> {
 
-        private final E element;
+        private E element;
 
         private Node<E> next;
 
         private Node<E> prev;
 
-        public Node(Node<E> prev, E element, Node<E> next) {
+        private Owner owner;
+
+        private boolean exposed;
+
+        public Node(Owner owner, Node<E> prev, E element, Node<E> next) {
+            this.owner = owner;
             this.prev = prev;
             this.element = element;
             this.next = next;
         }
+
+        @Override
+        public E element() {
+            return element;
+        }
+    }
+
+    private static final class Owner {
+
+        private Owner forward;
+
+        private Owner resolve() {
+            Owner root = this;
+            while (root.forward != null) {
+                root = root.forward;
+            }
+            Owner current = this;
+            while (current.forward != null && current.forward != root) {
+                Owner next = current.forward;
+                current.forward = root;
+                current = next;
+            }
+            return root;
+        }
+
+        private void claim(Node<?> from) {
+            for (Node<?> node = from; node != null; node = node.next) {
+                node.owner = this;
+            }
+        }
     }
 }
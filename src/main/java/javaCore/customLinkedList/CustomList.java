@@ -1,6 +1,18 @@
 package javaCore.customLinkedList;
 
-public interface CustomList<E> {
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface CustomList<E> extends Iterable<E> {
 
     int size();
 
@@ -21,4 +33,122 @@ public interface CustomList<E> {
     E removeLast();
 
     E remove(int index);
+
+    default void addAll(Collection<? extends E> elements) {
+        elements.forEach(this::addLast);
+    }
+
+    default void addAll(int index, Collection<? extends E> elements) {
+        if (index < 0 || index > size()) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+        int position = index;
+        for (E e : elements) {
+            add(position++, e);
+        }
+    }
+
+    default void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > toIndex || toIndex > size()) {
+            throw new IllegalArgumentException("Incorrect range provided: [" + fromIndex + ", " + toIndex + ")");
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            remove(fromIndex);
+        }
+    }
+
+    /**
+     * Moves all elements of {@code other} to the end of this list, leaving {@code other} empty.
+     */
+    default void splice(CustomList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("A list can't be spliced into itself");
+        }
+        while (other.size() > 0) {
+            addLast(other.removeFirst());
+        }
+    }
+
+    /**
+     * @return the index of the first element equal to {@code o}, or -1 if there is none
+     */
+    default int indexOf(Object o) {
+        int index = 0;
+        for (E e : this) {
+            if (Objects.equals(o, e)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    default boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * @return whether any elements were removed
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        Iterator<E> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (filter.test(iterator.next())) {
+                iterator.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Maps the elements into a new list in the same order, in segments processed by the common
+     * fork-join pool. Small lists are mapped sequentially.
+     */
+    default <R> CustomList<R> mapParallel(Function<? super E, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return ParallelListOps.transform(this, (e, segment) -> segment.addLast(mapper.apply(e)));
+    }
+
+    /**
+     * Copies the matching elements into a new list in the same order, in segments processed by the
+     * common fork-join pool. Small lists are filtered sequentially.
+     */
+    default CustomList<E> filterParallel(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return ParallelListOps.transform(this, (e, segment) -> {
+            if (filter.test(e)) {
+                segment.addLast(e);
+            }
+        });
+    }
+
+    /**
+     * Reduces segments in the common fork-join pool and combines their results in order, so
+     * {@code accumulator} must be associative and {@code identity} its identity.
+     */
+    default E reduceParallel(E identity, BinaryOperator<E> accumulator) {
+        return reduceParallel(identity, accumulator, accumulator);
+    }
+
+    default <U> U reduceParallel(U identity, BiFunction<U, ? super E, U> accumulator, BinaryOperator<U> combiner) {
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        return ParallelListOps.reduce(this, identity, accumulator, combiner);
+    }
+
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
@@ -0,0 +1,306 @@
+package javaCore.customLinkedList;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexable skip list: every forward link remembers how many elements it jumps over, so
+ * {@code add(int, E)}, {@code get(int)} and {@code remove(int)} descend the levels in expected
+ * O(log n) steps instead of walking the list from one of its ends.
+ */
+public class IndexedSkipListImpl<E> implements CustomList<E>, Introspectable {
+
+    private static final int MAX_LEVEL = 16;
+
+    private final Node<E> head;
+    private Node<E> tail;
+    private int level;
+    private int size;
+    private int modCount;
+    private long walkedLinks;
+
+    public IndexedSkipListImpl() {
+        this.head = new Node<>(null, MAX_LEVEL);
+        this.level = 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        insert(0, e);
+    }
+
+    @Override
+    public void addLast(E e) {
+        insert(size, e);
+    }
+
+    @Override
+    public void add(int index, E e) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        insert(index, e);
+    }
+
+    /**
+     * Spans are measured in element positions, where the head is at position 0 and a null link
+     * points at the virtual position {@code size + 1}, so the same arithmetic covers both cases.
+     */
+    private void insert(int index, E e) {
+        Node<E>[] update = Node.newArray(MAX_LEVEL);
+        int[] positions = new int[MAX_LEVEL];
+        findPredecessors(index + 1, update, positions);
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int l = level; l < nodeLevel; l++) {
+                update[l] = head;
+                positions[l] = 0;
+                head.span[l] = size + 1;
+            }
+            level = nodeLevel;
+        }
+
+        Node<E> newNode = new Node<>(e, nodeLevel);
+        for (int l = 0; l < nodeLevel; l++) {
+            Node<E> prior = update[l];
+            int distanceToPrior = index - positions[l];
+            newNode.next[l] = prior.next[l];
+            newNode.span[l] = prior.span[l] - distanceToPrior;
+            prior.next[l] = newNode;
+            prior.span[l] = distanceToPrior + 1;
+        }
+        for (int l = nodeLevel; l < level; l++) {
+            update[l].span[l]++;
+        }
+
+        if (newNode.next[0] == null) {
+            tail = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    private void findPredecessors(int position, Node<E>[] update, int[] positions) {
+        Node<E> current = head;
+        int currentPosition = 0;
+        for (int l = level - 1; l >= 0; l--) {
+            while (current.next[l] != null && currentPosition + current.span[l] < position) {
+                currentPosition += current.span[l];
+                current = current.next[l];
+                walkedLinks++;
+            }
+            update[l] = current;
+            positions[l] = currentPosition;
+        }
+    }
+
+    private int randomLevel() {
+        int bits = ThreadLocalRandom.current().nextInt();
+        int nodeLevel = 1;
+        while ((bits & 3) == 0 && nodeLevel < MAX_LEVEL) {
+            nodeLevel++;
+            bits >>>= 2;
+        }
+        return nodeLevel;
+    }
+
+    @Override
+    public E getFirst() {
+        Node<E> first = head.next[0];
+        if (first == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return first.element;
+    }
+
+    @Override
+    public E getLast() {
+        Node<E> last = tail;
+        if (last == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return last.element;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        int position = index + 1;
+        Node<E> current = head;
+        int currentPosition = 0;
+        for (int l = level - 1; l >= 0 && currentPosition != position; l--) {
+            while (current.next[l] != null && currentPosition + current.span[l] <= position) {
+                currentPosition += current.span[l];
+                current = current.next[l];
+                walkedLinks++;
+            }
+        }
+        return current.element;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return delete(0);
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return delete(size - 1);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        return delete(index);
+    }
+
+    private E delete(int index) {
+        Node<E>[] update = Node.newArray(MAX_LEVEL);
+        int[] positions = new int[MAX_LEVEL];
+        findPredecessors(index + 1, update, positions);
+
+        Node<E> toRemove = update[0].next[0];
+        for (int l = 0; l < level; l++) {
+            Node<E> prior = update[l];
+            if (prior.next[l] == toRemove) {
+                prior.span[l] += toRemove.span[l] - 1;
+                prior.next[l] = toRemove.next[l];
+            } else {
+                prior.span[l]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        if (tail == toRemove) {
+            tail = update[0] == head ? null : update[0];
+        }
+        size--;
+        modCount++;
+        return toRemove.element;
+    }
+
+    /**
+     * Walks the bottom level, so it's O(n).
+     */
+    @Override
+    public long estimatedRetainedBytes() {
+        long bytes = ListProbes.objectBytes(2 * ListProbes.REFERENCE_BYTES + 3 * ListProbes.INT_BYTES
+                                                    + ListProbes.LONG_BYTES);
+        for (Node<E> node = head; node != null; node = node.next[0]) {
+            bytes += ListProbes.objectBytes(3 * ListProbes.REFERENCE_BYTES)
+                    + ListProbes.arrayBytes(node.next.length, ListProbes.REFERENCE_BYTES)
+                    + ListProbes.arrayBytes(node.span.length, ListProbes.INT_BYTES);
+        }
+        return bytes;
+    }
+
+    /**
+     * Counts the links followed while descending the levels, on every level.
+     */
+    @Override
+    public long walkedLinks() {
+        return walkedLinks;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Node<E> node = head.next[0]; node != null; node = node.next[0]) {
+            joiner.add(String.valueOf(node.element));
+        }
+        return joiner.toString();
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private Node<E> next = head.next[0];
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            E element = next.element;
+            next = next.next[0];
+            nextIndex++;
+            canRemove = true;
+            return element;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            delete(--nextIndex);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private static class Node<E> {
+
+        private final E element;
+
+        private final Node<E>[] next;
+
+        private final int[] span;
+
+        public Node(E element, int level) {
+            this.element = element;
+            this.next = newArray(level);
+            this.span = new int[level];
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E> Node<E>[] newArray(int length) {
+            return (Node<E>[]) new Node<?>[length];
+        }
+    }
+}
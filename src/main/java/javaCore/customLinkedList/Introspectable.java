@@ -0,0 +1,23 @@
+package javaCore.customLinkedList;
+
+/**
+ * Internals a list reports to {@link ListProbes} for instrumentation, kept out of the public API of
+ * the list implementations.
+ */
+interface Introspectable {
+
+    /**
+     * Shallow heap size of the list structure, excluding the elements, sized with the constants of
+     * {@link ListProbes}.
+     */
+    long estimatedRetainedBytes();
+
+    /**
+     * Links or slots followed by positional lookups since the list was created, or -1 if lookups
+     * don't walk. Only single-threaded lists report it, so the difference across one operation is
+     * that operation's walk.
+     */
+    default long walkedLinks() {
+        return -1;
+    }
+}
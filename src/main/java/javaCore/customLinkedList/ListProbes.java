@@ -0,0 +1,52 @@
+package javaCore.customLinkedList;
+
+/**
+ * Read-only access to the internals lists report for instrumentation. Sizes assume a 64-bit JVM
+ * with compressed references: 12-byte object headers, 16-byte array headers, 4-byte references and
+ * 8-byte alignment.
+ */
+public final class ListProbes {
+
+    static final int REFERENCE_BYTES = 4;
+    static final int INT_BYTES = 4;
+    static final int LONG_BYTES = 8;
+
+    /**
+     * A {@code ReentrantLock} with its sync object.
+     */
+    static final long LOCK_BYTES = objectBytes(REFERENCE_BYTES) + objectBytes(3 * REFERENCE_BYTES + INT_BYTES);
+
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private ListProbes() {
+    }
+
+    /**
+     * @return the heap held by the list structure excluding the elements, or -1 if the list doesn't
+     * estimate it
+     */
+    public static long estimatedRetainedBytes(CustomList<?> list) {
+        return list instanceof Introspectable introspectable ? introspectable.estimatedRetainedBytes() : -1;
+    }
+
+    /**
+     * @return the links followed by positional lookups so far, or -1 if the list doesn't report
+     * them because its lookups don't walk or it's shared between threads
+     */
+    public static long walkedLinks(CustomList<?> list) {
+        return list instanceof Introspectable introspectable ? introspectable.walkedLinks() : -1;
+    }
+
+    static long objectBytes(long fieldBytes) {
+        return align(OBJECT_HEADER_BYTES + fieldBytes);
+    }
+
+    static long arrayBytes(long length, int elementBytes) {
+        return align(ARRAY_HEADER_BYTES + length * elementBytes);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,121 @@
+package javaCore.customLinkedList;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+
+/**
+ * Fork-join implementation of the {@code *Parallel} operations of {@link CustomList}. The source
+ * spliterator is split into segments that are processed in the common pool; per-segment results are
+ * {@link CustomLinkedListImpl}s concatenated in order with an O(1) splice. Lists below
+ * {@link #SEQUENTIAL_THRESHOLD} elements are processed on the calling thread.
+ */
+final class ParallelListOps {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int MIN_SEGMENT_SIZE = 1 << 10;
+    private static final int SEGMENTS_PER_WORKER = 4;
+
+    private ParallelListOps() {
+    }
+
+    static <T, R> CustomList<R> transform(CustomList<T> source,
+                                          BiConsumer<? super T, CustomLinkedListImpl<R>> step) {
+        int size = source.size();
+        Spliterator<T> spliterator = source.spliterator();
+        if (size < SEQUENTIAL_THRESHOLD) {
+            return new TransformTask<>(spliterator, step, size).transformSequentially();
+        }
+        return ForkJoinPool.commonPool().invoke(new TransformTask<>(spliterator, step, segmentSize(size)));
+    }
+
+    static <T, U> U reduce(CustomList<T> source, U identity, BiFunction<U, ? super T, U> accumulator,
+                           BinaryOperator<U> combiner) {
+        int size = source.size();
+        Spliterator<T> spliterator = source.spliterator();
+        if (size < SEQUENTIAL_THRESHOLD) {
+            return new ReduceTask<>(spliterator, identity, accumulator, combiner, size).reduceSequentially();
+        }
+        return ForkJoinPool.commonPool()
+                           .invoke(new ReduceTask<>(spliterator, identity, accumulator, combiner, segmentSize(size)));
+    }
+
+    private static int segmentSize(int size) {
+        int segments = ForkJoinPool.getCommonPoolParallelism() * SEGMENTS_PER_WORKER;
+        return Math.max(MIN_SEGMENT_SIZE, size / segments);
+    }
+
+    private static final class TransformTask<T, R> extends RecursiveTask<CustomLinkedListImpl<R>> {
+
+        private final Spliterator<T> spliterator;
+        private final BiConsumer<? super T, CustomLinkedListImpl<R>> step;
+        private final int segmentSize;
+
+        private TransformTask(Spliterator<T> spliterator,
+                              BiConsumer<? super T, CustomLinkedListImpl<R>> step, int segmentSize) {
+            this.spliterator = spliterator;
+            this.step = step;
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        protected CustomLinkedListImpl<R> compute() {
+            Spliterator<T> prefix;
+            if (spliterator.estimateSize() <= segmentSize || (prefix = spliterator.trySplit()) == null) {
+                return transformSequentially();
+            }
+            TransformTask<T, R> prefixTask = new TransformTask<>(prefix, step, segmentSize);
+            prefixTask.fork();
+            CustomLinkedListImpl<R> suffixResult = compute();
+            CustomLinkedListImpl<R> result = prefixTask.join();
+            result.splice(suffixResult);
+            return result;
+        }
+
+        private CustomLinkedListImpl<R> transformSequentially() {
+            CustomLinkedListImpl<R> result = new CustomLinkedListImpl<>();
+            spliterator.forEachRemaining(e -> step.accept(e, result));
+            return result;
+        }
+    }
+
+    private static final class ReduceTask<T, U> extends RecursiveTask<U> {
+
+        private final Spliterator<T> spliterator;
+        private final U identity;
+        private final BiFunction<U, ? super T, U> accumulator;
+        private final BinaryOperator<U> combiner;
+        private final int segmentSize;
+        private U accumulated;
+
+        private ReduceTask(Spliterator<T> spliterator, U identity, BiFunction<U, ? super T, U> accumulator,
+                           BinaryOperator<U> combiner, int segmentSize) {
+            this.spliterator = spliterator;
+            this.identity = identity;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+            this.segmentSize = segmentSize;
+        }
+
+        @Override
+        protected U compute() {
+            Spliterator<T> prefix;
+            if (spliterator.estimateSize() <= segmentSize || (prefix = spliterator.trySplit()) == null) {
+                return reduceSequentially();
+            }
+            ReduceTask<T, U> prefixTask = new ReduceTask<>(prefix, identity, accumulator, combiner, segmentSize);
+            prefixTask.fork();
+            U suffixResult = compute();
+            return combiner.apply(prefixTask.join(), suffixResult);
+        }
+
+        private U reduceSequentially() {
+            accumulated = identity;
+            spliterator.forEachRemaining(e -> accumulated = accumulator.apply(accumulated, e));
+            return accumulated;
+        }
+    }
+}
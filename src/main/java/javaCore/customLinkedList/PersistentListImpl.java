@@ -0,0 +1,278 @@
+package javaCore.customLinkedList;
+
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link CustomList} over a persistent implicit treap: nodes are never changed once built, so every
+ * modification copies only the O(log n) nodes on its path and leaves previous versions intact.
+ * {@link #snapshot()} hands out the current version in O(1); snapshots can be read from other
+ * threads without locking while a single writer keeps modifying this list.
+ */
+public class PersistentListImpl<E> implements CustomList<E>, Introspectable {
+
+    private volatile Node<E> root;
+
+    public PersistentListImpl() {
+    }
+
+    private PersistentListImpl(Node<E> root) {
+        this.root = root;
+    }
+
+    public PersistentListImpl<E> snapshot() {
+        return new PersistentListImpl<>(root);
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public void addFirst(E e) {
+        root = merge(new Node<>(e), root);
+    }
+
+    @Override
+    public void addLast(E e) {
+        root = merge(root, new Node<>(e));
+    }
+
+    @Override
+    public void add(int index, E e) {
+        Node<E> current = root;
+
+        if (index < 0 || index > sizeOf(current)) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        Split<E> split = split(current, index);
+        root = merge(merge(split.left(), new Node<>(e)), split.right());
+    }
+
+    @Override
+    public E getFirst() {
+        Node<E> current = root;
+        if (current == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        while (current.left != null) {
+            current = current.left;
+        }
+        return current.element;
+    }
+
+    @Override
+    public E getLast() {
+        Node<E> current = root;
+        if (current == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        while (current.right != null) {
+            current = current.right;
+        }
+        return current.element;
+    }
+
+    @Override
+    public E get(int index) {
+        Node<E> current = root;
+        checkIndex(index, current);
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(current.left);
+            if (remaining < leftSize) {
+                current = current.left;
+            } else if (remaining == leftSize) {
+                return current.element;
+            } else {
+                remaining -= leftSize + 1;
+                current = current.right;
+            }
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        if (root == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return delete(0);
+    }
+
+    @Override
+    public E removeLast() {
+        Node<E> current = root;
+        if (current == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return delete(current.size - 1);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index, root);
+        return delete(index);
+    }
+
+    private E delete(int index) {
+        Split<E> prefix = split(root, index);
+        Split<E> removed = split(prefix.right(), 1);
+        root = merge(prefix.left(), removed.right());
+        return removed.left().element;
+    }
+
+    private void checkIndex(int index, Node<E> current) {
+        if (index < 0 || index > sizeOf(current) - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        }
+        return right.withChildren(merge(left, right.left), right.right);
+    }
+
+    /**
+     * Splits {@code node} into its first {@code count} elements and the rest.
+     */
+    private static <E> Split<E> split(Node<E> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<E> split = split(node.left, count);
+            return new Split<>(split.left(), node.withChildren(split.right(), node.right));
+        }
+        Split<E> split = split(node.right, count - leftSize - 1);
+        return new Split<>(node.withChildren(node.left, split.left()), split.right());
+    }
+
+    /**
+     * Counts every node of the current version, including nodes shared with snapshots.
+     */
+    @Override
+    public long estimatedRetainedBytes() {
+        return ListProbes.objectBytes(ListProbes.REFERENCE_BYTES)
+                + (long) sizeOf(root) * ListProbes.objectBytes(3 * ListProbes.REFERENCE_BYTES
+                                                                      + 2 * ListProbes.INT_BYTES);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(root);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach(e -> joiner.add(String.valueOf(e)));
+        return joiner.toString();
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+        private Node<E> expectedRoot;
+        private int nextIndex;
+        private boolean canRemove;
+
+        private Itr(Node<E> root) {
+            this.expectedRoot = root;
+            pushLeftPath(root);
+        }
+
+        private void pushLeftPath(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (path.isEmpty()) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            Node<E> node = path.pop();
+            pushLeftPath(node.right);
+            nextIndex++;
+            canRemove = true;
+            return node.element;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            // the rest of the walk continues over the previous version, which holds the same elements
+            delete(--nextIndex);
+            canRemove = false;
+            expectedRoot = root;
+        }
+
+        private void checkForComodification() {
+            if (root != expectedRoot) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private record Split<E>(Node<E> left, Node<E> right) {
+    }
+
+    private static final class Node<E> {
+
+        private final E element;
+
+        private final Node<E> left;
+
+        private final Node<E> right;
+
+        private final int size;
+
+        private final int priority;
+
+        private Node(E element) {
+            this(element, null, null, ThreadLocalRandom.current().nextInt());
+        }
+
+        private Node(E element, Node<E> left, Node<E> right, int priority) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.priority = priority;
+        }
+
+        private Node<E> withChildren(Node<E> newLeft, Node<E> newRight) {
+            return new Node<>(element, newLeft, newRight, priority);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package javaCore.customLinkedList;
+
+/**
+ * Growable ring of elements with power-of-two capacity shared by the array-backed lists: inserting
+ * or deleting at either end is amortized O(1), elsewhere the shorter side is shifted. Indexes are
+ * logical positions from {@code head} and aren't checked; callers validate them and keep their own
+ * modification counts.
+ * <p>
+ * The fields are package-private so optimistic readers can read them without a lock; such readers
+ * must mask every slot with the array they read, since the fields may be torn until validated.
+ */
+final class RingBuffer<E> {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    Object[] elements;
+    int head;
+    int size;
+
+    RingBuffer(int initialCapacity) {
+        if (initialCapacity < 1 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Incorrect initial capacity provided: " + initialCapacity);
+        }
+        this.elements = new Object[Integer.highestOneBit(initialCapacity * 2 - 1)];
+    }
+
+    E get(int index) {
+        return elementData(elements[slot(index)]);
+    }
+
+    void insert(int index, E e) {
+        ensureCapacityForOneMore();
+        if (index < size / 2) {
+            head = (head - 1) & (elements.length - 1);
+            for (int i = 0; i < index; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+        }
+        elements[slot(index)] = e;
+        size++;
+    }
+
+    E delete(int index) {
+        E removed = get(index);
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[slot(i)] = elements[slot(i - 1)];
+            }
+            elements[head] = null;
+            head = (head + 1) & (elements.length - 1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[slot(i)] = elements[slot(i + 1)];
+            }
+            elements[slot(size - 1)] = null;
+        }
+        size--;
+        return removed;
+    }
+
+    long estimatedRetainedBytes() {
+        return ListProbes.objectBytes(ListProbes.REFERENCE_BYTES + 2 * ListProbes.INT_BYTES)
+                + ListProbes.arrayBytes(elements.length, ListProbes.REFERENCE_BYTES);
+    }
+
+    /**
+     * @return the elements in order, or {@code null} if the given fields are torn
+     */
+    static Object[] copyOf(Object[] elements, int head, int size) {
+        if (size < 0 || size > elements.length || head < 0 || head >= elements.length) {
+            return null;
+        }
+        Object[] copy = new Object[size];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, copy, 0, firstPart);
+        System.arraycopy(elements, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    private void ensureCapacityForOneMore() {
+        if (size < elements.length) {
+            return;
+        }
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("List capacity exceeded: " + MAX_CAPACITY);
+        }
+        Object[] grown = new Object[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+    private int slot(int index) {
+        return (head + index) & (elements.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> E elementData(Object element) {
+        return (E) element;
+    }
+}
@@ -0,0 +1,347 @@
+package javaCore.customLinkedList;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe {@link CustomList} for read-mostly workloads. Elements live in a growable ring
+ * buffer guarded by a {@link StampedLock}: reads are optimistic and only fall back to the read
+ * lock when a writer interfered, writes are exclusive.
+ * <p>
+ * Iterators and streams traverse a snapshot taken when they are created, so they never throw
+ * {@link ConcurrentModificationException} on {@code next()}. {@code Iterator.remove()} succeeds
+ * only while the list hasn't been modified by anyone else since the snapshot.
+ */
+public class StampedLockListImpl<E> implements CustomList<E>, Introspectable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final StampedLock lock;
+    private final RingBuffer<E> ring;
+    private int modCount;
+
+    public StampedLockListImpl() {
+        this.lock = new StampedLock();
+        this.ring = new RingBuffer<>(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = ring.size;
+        if (lock.validate(stamp)) {
+            return currentSize;
+        }
+        stamp = lock.readLock();
+        try {
+            return ring.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public void addFirst(E e) {
+        long stamp = lock.writeLock();
+        try {
+            insert(0, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addLast(E e) {
+        long stamp = lock.writeLock();
+        try {
+            insert(ring.size, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void add(int index, E e) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > ring.size) {
+                throw new IllegalArgumentException("Incorrect index provided: " + index);
+            }
+            insert(index, e);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addAll(Collection<? extends E> toAdd) {
+        long stamp = lock.writeLock();
+        try {
+            for (E e : toAdd) {
+                insert(ring.size, e);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void addAll(int index, Collection<? extends E> toAdd) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > ring.size) {
+                throw new IllegalArgumentException("Incorrect index provided: " + index);
+            }
+            int position = index;
+            for (E e : toAdd) {
+                insert(position++, e);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E getFirst() {
+        return read(0, true, false);
+    }
+
+    @Override
+    public E getLast() {
+        return read(0, true, true);
+    }
+
+    @Override
+    public E get(int index) {
+        return read(index, false, false);
+    }
+
+    /**
+     * @param fromTail whether {@code index} counts back from the last element
+     */
+    private E read(int index, boolean endAccess, boolean fromTail) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            // fields may be torn until validated, masking keeps the array access in bounds
+            Object[] currentElements = ring.elements;
+            int currentHead = ring.head;
+            int currentSize = ring.size;
+            int position = fromTail ? currentSize - 1 - index : index;
+            Object element = currentElements[(currentHead + position) & (currentElements.length - 1)];
+            if (lock.validate(stamp)) {
+                checkReadable(position, currentSize, endAccess);
+                return RingBuffer.elementData(element);
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            int position = fromTail ? ring.size - 1 - index : index;
+            checkReadable(position, ring.size, endAccess);
+            return ring.get(position);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void checkReadable(int position, int currentSize, boolean endAccess) {
+        if (endAccess && currentSize == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        if (position < 0 || position > currentSize - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + position);
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        long stamp = lock.writeLock();
+        try {
+            checkNotEmpty();
+            return delete(0);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E removeLast() {
+        long stamp = lock.writeLock();
+        try {
+            checkNotEmpty();
+            return delete(ring.size - 1);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index);
+            return delete(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long stamp = lock.writeLock();
+        try {
+            if (fromIndex < 0 || fromIndex > toIndex || toIndex > ring.size) {
+                throw new IllegalArgumentException("Incorrect range provided: [" + fromIndex + ", " + toIndex
+                                                           + ")");
+            }
+            for (int i = fromIndex; i < toIndex; i++) {
+                delete(fromIndex);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (ring.size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > ring.size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    private void insert(int index, E e) {
+        ring.insert(index, e);
+        modCount++;
+    }
+
+    private E delete(int index) {
+        E removed = ring.delete(index);
+        modCount++;
+        return removed;
+    }
+
+    private Snapshot takeSnapshot() {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0L) {
+            Snapshot snapshot = copySnapshot();
+            if (snapshot != null && lock.validate(stamp)) {
+                return snapshot;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return copySnapshot();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the copied contents, or {@code null} if a concurrent writer left the fields torn
+     */
+    private Snapshot copySnapshot() {
+        int currentModCount = modCount;
+        Object[] copy = RingBuffer.copyOf(ring.elements, ring.head, ring.size);
+        return copy == null ? null : new Snapshot(copy, currentModCount);
+    }
+
+    @Override
+    public long estimatedRetainedBytes() {
+        long stamp = lock.readLock();
+        try {
+            return ListProbes.objectBytes(2 * ListProbes.REFERENCE_BYTES + ListProbes.INT_BYTES)
+                    + ListProbes.objectBytes(5 * ListProbes.REFERENCE_BYTES + ListProbes.LONG_BYTES
+                                                     + ListProbes.INT_BYTES)
+                    + ring.estimatedRetainedBytes();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(takeSnapshot());
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (Object element : takeSnapshot().elements()) {
+            action.accept(RingBuffer.elementData(element));
+        }
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(takeSnapshot().elements(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        Arrays.stream(takeSnapshot().elements())
+              .forEach(e -> joiner.add(String.valueOf(e)));
+        return joiner.toString();
+    }
+
+    private record Snapshot(Object[] elements, int modCount) {
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private final Object[] snapshot;
+        private int expectedModCount;
+        private int cursor;
+        private int removed;
+        private boolean canRemove;
+
+        private Itr(Snapshot snapshot) {
+            this.snapshot = snapshot.elements();
+            this.expectedModCount = snapshot.modCount();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @Override
+        public E next() {
+            if (cursor >= snapshot.length) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            canRemove = true;
+            return RingBuffer.elementData(snapshot[cursor++]);
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            long stamp = lock.writeLock();
+            try {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                delete(cursor - 1 - removed);
+                expectedModCount = modCount;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            removed++;
+            canRemove = false;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package javaCore.customLinkedList;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only concurrent {@link CustomList} for many writers and few readers. Appends go to one of
+ * several stripes chosen per thread, so threads rarely share a tail; a thread that finds its stripe
+ * busy moves to another one. Every element is stamped from a global sequence while its stripe is
+ * locked, which keeps each stripe sorted by stamp.
+ * <p>
+ * {@link #iterator()} merges the stripes into global append order; {@link #unorderedIterator()}
+ * walks them one after another, which is cheaper when the order doesn't matter. Both traverse a
+ * snapshot taken when they are created and never throw {@link java.util.ConcurrentModificationException}.
+ * Only {@code addLast} and reads are supported; the other mutators throw
+ * {@link UnsupportedOperationException}.
+ */
+public class StripedAppendListImpl<E> implements CustomList<E>, Introspectable {
+
+    private static final int MAX_STRIPES = 64;
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    /**
+     * Per-thread stripe selector shared by all instances, moved on contention.
+     */
+    private static final ThreadLocal<int[]> PROBE = ThreadLocal.withInitial(
+            () -> new int[]{ThreadLocalRandom.current().nextInt()});
+
+    private final Stripe[] stripes;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public StripedAppendListImpl() {
+        this(Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+    }
+
+    public StripedAppendListImpl(int stripes) {
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("Incorrect stripe count provided: " + stripes);
+        }
+        int count = Integer.highestOneBit(stripes * 2 - 1);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public int size() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.count;
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void addFirst(E e) {
+        throw new UnsupportedOperationException("The striped list is append-only");
+    }
+
+    @Override
+    public void addLast(E e) {
+        int[] probe = PROBE.get();
+        Stripe stripe = stripes[probe[0] & (stripes.length - 1)];
+        if (!stripe.lock.tryLock()) {
+            probe[0] = ThreadLocalRandom.current().nextInt();
+            stripe = stripes[probe[0] & (stripes.length - 1)];
+            stripe.lock.lock();
+        }
+        try {
+            stripe.append(e, sequence.getAndIncrement());
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void add(int index, E e) {
+        throw new UnsupportedOperationException("The striped list is append-only");
+    }
+
+    @Override
+    public E getFirst() {
+        View first = null;
+        for (Stripe stripe : stripes) {
+            View view = stripe.view();
+            if (view.count > 0 && (first == null || view.stamps[0] < first.stamps[0])) {
+                first = view;
+            }
+        }
+        if (first == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return first.elementAt(0);
+    }
+
+    @Override
+    public E getLast() {
+        View last = null;
+        for (Stripe stripe : stripes) {
+            View view = stripe.view();
+            if (view.count > 0 && (last == null || view.lastStamp() > last.lastStamp())) {
+                last = view;
+            }
+        }
+        if (last == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return last.elementAt(last.count - 1);
+    }
+
+    /**
+     * Walks the merged stripes up to {@code index}, so it's O(n) and meant for occasional use.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+        Iterator<E> iterator = iterator();
+        int position = 0;
+        while (iterator.hasNext()) {
+            E element = iterator.next();
+            if (position++ == index) {
+                return element;
+            }
+        }
+        throw new IllegalArgumentException("Incorrect index provided: " + index);
+    }
+
+    @Override
+    public E removeFirst() {
+        throw new UnsupportedOperationException("The striped list is append-only");
+    }
+
+    @Override
+    public E removeLast() {
+        throw new UnsupportedOperationException("The striped list is append-only");
+    }
+
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("The striped list is append-only");
+    }
+
+    private View[] views() {
+        View[] views = new View[stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            views[i] = stripes[i].view();
+        }
+        return views;
+    }
+
+    @Override
+    public long estimatedRetainedBytes() {
+        long bytes = ListProbes.objectBytes(2 * ListProbes.REFERENCE_BYTES)
+                + ListProbes.objectBytes(ListProbes.LONG_BYTES)
+                + ListProbes.arrayBytes(stripes.length, ListProbes.REFERENCE_BYTES);
+        for (Stripe stripe : stripes) {
+            View view = stripe.view();
+            bytes += ListProbes.objectBytes(3 * ListProbes.REFERENCE_BYTES + ListProbes.INT_BYTES)
+                    + ListProbes.LOCK_BYTES
+                    + ListProbes.arrayBytes(view.elements().length, ListProbes.REFERENCE_BYTES)
+                    + ListProbes.arrayBytes(view.stamps().length, ListProbes.LONG_BYTES);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new MergingItr(views());
+    }
+
+    public Iterator<E> unorderedIterator() {
+        return new StripeItr(views());
+    }
+
+    /**
+     * Copies the current elements into a new list, in append order or stripe by stripe.
+     */
+    public CircularArrayListImpl<E> snapshot(boolean ordered) {
+        View[] views = views();
+        int total = 0;
+        for (View view : views) {
+            total += view.count;
+        }
+        CircularArrayListImpl<E> copy = new CircularArrayListImpl<>(Math.max(1, total));
+        Iterator<E> iterator = ordered ? new MergingItr(views) : new StripeItr(views);
+        while (iterator.hasNext()) {
+            copy.addLast(iterator.next());
+        }
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach(e -> joiner.add(String.valueOf(e)));
+        return joiner.toString();
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private Object[] elements = new Object[INITIAL_STRIPE_CAPACITY];
+        private long[] stamps = new long[INITIAL_STRIPE_CAPACITY];
+        private volatile int count;
+
+        private void append(Object e, long stamp) {
+            int position = count;
+            if (position == elements.length) {
+                if (position == Integer.MAX_VALUE - 8) {
+                    throw new IllegalStateException("Stripe capacity exceeded: " + position);
+                }
+                int grown = (int) Math.min((long) position * 2, Integer.MAX_VALUE - 8);
+                elements = Arrays.copyOf(elements, grown);
+                stamps = Arrays.copyOf(stamps, grown);
+            }
+            elements[position] = e;
+            stamps[position] = stamp;
+            count = position + 1;
+        }
+
+        /**
+         * Entries below the captured count are never written again, so the view stays valid
+         * after the lock is released.
+         */
+        private View view() {
+            lock.lock();
+            try {
+                return new View(elements, stamps, count);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record View(Object[] elements, long[] stamps, int count) {
+
+        private long lastStamp() {
+            return stamps[count - 1];
+        }
+
+        @SuppressWarnings("unchecked")
+        private <E> E elementAt(int index) {
+            return (E) elements[index];
+        }
+    }
+
+    private final class MergingItr implements Iterator<E> {
+
+        private final View[] views;
+        private final int[] positions;
+        private final PriorityQueue<Integer> heads;
+
+        private MergingItr(View[] views) {
+            this.views = views;
+            this.positions = new int[views.length];
+            this.heads = new PriorityQueue<>(Math.max(1, views.length),
+                                             (a, b) -> Long.compare(currentStamp(a), currentStamp(b)));
+            for (int i = 0; i < views.length; i++) {
+                if (views[i].count > 0) {
+                    heads.add(i);
+                }
+            }
+        }
+
+        private long currentStamp(int stripe) {
+            return views[stripe].stamps[positions[stripe]];
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !heads.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            Integer stripe = heads.poll();
+            if (stripe == null) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            E element = views[stripe].elementAt(positions[stripe]++);
+            if (positions[stripe] < views[stripe].count) {
+                heads.add(stripe);
+            }
+            return element;
+        }
+    }
+
+    private final class StripeItr implements Iterator<E> {
+
+        private final View[] views;
+        private int stripe;
+        private int position;
+
+        private StripeItr(View[] views) {
+            this.views = views;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (stripe < views.length && position >= views[stripe].count) {
+                stripe++;
+                position = 0;
+            }
+            return stripe < views.length;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            return views[stripe].elementAt(position++);
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package javaCore.customLinkedList;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Unrolled linked list: every node keeps up to {@code nodeCapacity} elements in a small array,
+ * so the per-element overhead is a single array slot instead of a whole node object and
+ * positional walks skip a node's worth of elements per step.
+ */
+public class UnrolledLinkedListImpl<E> implements CustomList<E>, Introspectable {
+
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+    private static final int MIN_NODE_CAPACITY = 2;
+
+    private final int nodeCapacity;
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+    private int modCount;
+    private long walkedLinks;
+
+    public UnrolledLinkedListImpl() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    public UnrolledLinkedListImpl(int nodeCapacity) {
+        if (nodeCapacity < MIN_NODE_CAPACITY) {
+            throw new IllegalArgumentException("Node capacity can't be less than " + MIN_NODE_CAPACITY + ": "
+                                                       + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        if (head == null) {
+            addFirstEver();
+        } else if (head.isFull()) {
+            linkBefore(head, new Node<>(nodeCapacity));
+        }
+        head.insert(0, e);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        if (tail == null) {
+            addFirstEver();
+        } else if (tail.isFull()) {
+            linkAfter(tail, new Node<>(nodeCapacity));
+        }
+        tail.insert(tail.count, e);
+        size++;
+        modCount++;
+    }
+
+    private void addFirstEver() {
+        Node<E> node = new Node<>(nodeCapacity);
+        head = node;
+        tail = node;
+    }
+
+    @Override
+    public void add(int index, E e) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        if (index == 0) {
+            addFirst(e);
+            return;
+        }
+        if (index == size) {
+            addLast(e);
+            return;
+        }
+
+        Node<E> node;
+        int offset;
+        if (size / 2 >= index) {
+            node = head;
+            offset = index;
+            while (offset > node.count) {
+                offset -= node.count;
+                node = node.next;
+                walkedLinks++;
+            }
+        } else {
+            node = tail;
+            int following = size - index;
+            while (following > node.count) {
+                following -= node.count;
+                node = node.prev;
+                walkedLinks++;
+            }
+            offset = node.count - following;
+        }
+
+        if (node.isFull()) {
+            Node<E> right = split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = right;
+            }
+        }
+        node.insert(offset, e);
+        size++;
+        modCount++;
+    }
+
+    private Node<E> split(Node<E> node) {
+        Node<E> right = new Node<>(nodeCapacity);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.elements, half, right.elements, 0, moved);
+        Arrays.fill(node.elements, half, node.count, null);
+        right.count = moved;
+        node.count = half;
+        linkAfter(node, right);
+        return right;
+    }
+
+    @Override
+    public E getFirst() {
+        return getHeadNode().element(0);
+    }
+
+    private Node<E> getHeadNode() {
+        Node<E> first = head;
+        if (first == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return first;
+    }
+
+    @Override
+    public E getLast() {
+        Node<E> last = getTailNode();
+        return last.element(last.count - 1);
+    }
+
+    private Node<E> getTailNode() {
+        Node<E> last = tail;
+        if (last == null) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+        return last;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        if (size / 2 >= index) {
+            Node<E> node = head;
+            int offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+                walkedLinks++;
+            }
+            return node.element(offset);
+        }
+        Node<E> node = tail;
+        int offset = size - 1 - index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.prev;
+            walkedLinks++;
+        }
+        return node.element(node.count - 1 - offset);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        return removeFromNode(getHeadNode(), 0);
+    }
+
+    @Override
+    public E removeLast() {
+        Node<E> last = getTailNode();
+        return removeFromNode(last, last.count - 1);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        if (size / 2 >= index) {
+            Node<E> node = head;
+            int offset = index;
+            while (offset >= node.count) {
+                offset -= node.count;
+                node = node.next;
+                walkedLinks++;
+            }
+            return removeFromNode(node, offset);
+        }
+        Node<E> node = tail;
+        int offset = size - 1 - index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.prev;
+            walkedLinks++;
+        }
+        return removeFromNode(node, node.count - 1 - offset);
+    }
+
+    private E removeFromNode(Node<E> node, int offset) {
+        E removed = node.delete(offset);
+        size--;
+        modCount++;
+        if (node.count == 0) {
+            unlink(node);
+        } else {
+            mergeWithNextIfSparse(node);
+        }
+        return removed;
+    }
+
+    private void mergeWithNextIfSparse(Node<E> node) {
+        Node<E> next = node.next;
+        if (next == null || node.count >= nodeCapacity / 2 || node.count + next.count > nodeCapacity) {
+            return;
+        }
+        System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+        node.count += next.count;
+        unlink(next);
+    }
+
+    private void linkBefore(Node<E> node, Node<E> newNode) {
+        Node<E> prior = node.prev;
+        newNode.prev = prior;
+        newNode.next = node;
+        node.prev = newNode;
+        if (prior == null) {
+            head = newNode;
+        } else {
+            prior.next = newNode;
+        }
+    }
+
+    private void linkAfter(Node<E> node, Node<E> newNode) {
+        Node<E> after = node.next;
+        newNode.prev = node;
+        newNode.next = after;
+        node.next = newNode;
+        if (after == null) {
+            tail = newNode;
+        } else {
+            after.prev = newNode;
+        }
+    }
+
+    private void unlink(Node<E> node) {
+        Node<E> prior = node.prev;
+        Node<E> after = node.next;
+        if (prior == null) {
+            head = after;
+        } else {
+            prior.next = after;
+        }
+        if (after == null) {
+            tail = prior;
+        } else {
+            after.prev = prior;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Walks the nodes, so it's O(n / nodeCapacity).
+     */
+    @Override
+    public long estimatedRetainedBytes() {
+        long bytes = ListProbes.objectBytes(2 * ListProbes.REFERENCE_BYTES + 3 * ListProbes.INT_BYTES
+                                                    + ListProbes.LONG_BYTES);
+        for (Node<E> node = head; node != null; node = node.next) {
+            bytes += ListProbes.objectBytes(3 * ListProbes.REFERENCE_BYTES + ListProbes.INT_BYTES)
+                    + ListProbes.arrayBytes(node.elements.length, ListProbes.REFERENCE_BYTES);
+        }
+        return bytes;
+    }
+
+    @Override
+    public long walkedLinks() {
+        return walkedLinks;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Node<E> node = head; node != null; node = node.next) {
+            for (int i = 0; i < node.count; i++) {
+                joiner.add(String.valueOf(node.elements[i]));
+            }
+        }
+        return joiner.toString();
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private Node<E> node = head;
+        private int offset;
+        private int nextIndex;
+        private int lastReturnedIndex = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= size) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            while (offset >= node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            lastReturnedIndex = nextIndex++;
+            return node.element(offset++);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturnedIndex < 0) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            // an emptied node is unlinked, while a merge only appends to the current node
+            Node<E> current = node;
+            Node<E> after = current.next;
+            removeFromNode(current, --offset);
+            if (current.count == 0) {
+                node = after;
+                offset = 0;
+            }
+            nextIndex = lastReturnedIndex;
+            lastReturnedIndex = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private static class Node<E> {
+
+        private final Object[] elements;
+
+        private int count;
+
+        private Node<E> next;
+
+        private Node<E> prev;
+
+        public Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+
+        private boolean isFull() {
+            return count == elements.length;
+        }
+
+        @SuppressWarnings("unchecked")
+        private E element(int offset) {
+            return (E) elements[offset];
+        }
+
+        private void insert(int offset, E e) {
+            System.arraycopy(elements, offset, elements, offset + 1, count - offset);
+            elements[offset] = e;
+            count++;
+        }
+
+        private E delete(int offset) {
+            E removed = element(offset);
+            System.arraycopy(elements, offset + 1, elements, offset, count - offset - 1);
+            elements[--count] = null;
+            return removed;
+        }
+    }
+}
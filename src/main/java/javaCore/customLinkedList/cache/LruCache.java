@@ -0,0 +1,193 @@
+package javaCore.customLinkedList.cache;
+
+import javaCore.customLinkedList.CustomLinkedListImpl;
+import javaCore.customLinkedList.CustomLinkedListImpl.Handle;
+import lombok.Builder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Bounded least-recently-used cache. Entries are indexed by a {@link HashMap} of node handles into a
+ * {@link CustomLinkedListImpl} kept in recency order, most recent first, so lookups, insertions and
+ * evictions are O(1).
+ * <p>
+ * The bound is a total weight: every entry weighs 1 unless a weigher is configured, for example to
+ * bound the cache by an estimate of its size in bytes. When an insertion exceeds the bound, least
+ * recently used entries are evicted and passed to the eviction listener, which is called after the
+ * cache lock is released. Replaced and explicitly removed entries aren't reported as evicted.
+ * Null keys and values aren't supported.
+ */
+public class LruCache<K, V> {
+
+    private final long maximumWeight;
+    private final ToLongBiFunction<? super K, ? super V> weigher;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<K, Handle<Entry<K, V>>> index = new HashMap<>();
+    private final CustomLinkedListImpl<Entry<K, V>> recency = new CustomLinkedListImpl<>();
+    private long weight;
+
+    @Builder
+    private LruCache(long maximumWeight, ToLongBiFunction<? super K, ? super V> weigher,
+                     BiConsumer<? super K, ? super V> evictionListener) {
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher != null ? weigher : (k, v) -> 1;
+        this.evictionListener = evictionListener != null ? evictionListener : (k, v) -> {
+        };
+    }
+
+    public static <K, V> LruCache<K, V> ofCapacity(int capacity) {
+        return LruCache.<K, V>builder().maximumWeight(capacity).build();
+    }
+
+    /**
+     * Returns the cached value and marks it as the most recently used one, or null if absent.
+     */
+    public V get(K key) {
+        Objects.requireNonNull(key, "Key can't be null");
+        lock.lock();
+        try {
+            Handle<Entry<K, V>> handle = index.get(key);
+            if (handle == null) {
+                return null;
+            }
+            recency.moveToFront(handle);
+            return handle.element().value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the cached value or caches the one computed by the loader. The loader runs without
+     * holding the cache lock, so concurrent misses may load the same key; the first value stored wins.
+     * A null loaded value is returned but not cached.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded == null) {
+            return null;
+        }
+        return store(key, loaded, true);
+    }
+
+    /**
+     * Caches the value as the most recently used one and returns the value it replaced, or null.
+     *
+     * @throws IllegalArgumentException if the entry alone is heavier than the maximum weight
+     */
+    public V put(K key, V value) {
+        return store(key, value, false);
+    }
+
+    private V store(K key, V value, boolean onlyIfAbsent) {
+        Objects.requireNonNull(key, "Key can't be null");
+        Objects.requireNonNull(value, "Value can't be null");
+        long entryWeight = weigher.applyAsLong(key, value);
+        if (entryWeight < 0 || entryWeight > maximumWeight) {
+            throw new IllegalArgumentException("Incorrect entry weight provided: " + entryWeight);
+        }
+
+        CustomLinkedListImpl<Entry<K, V>> evicted;
+        V result;
+        lock.lock();
+        try {
+            Handle<Entry<K, V>> handle = index.get(key);
+            if (handle != null) {
+                Entry<K, V> entry = handle.element();
+                recency.moveToFront(handle);
+                if (onlyIfAbsent) {
+                    return entry.value;
+                }
+                result = entry.value;
+                weight += entryWeight - entry.weight;
+                entry.value = value;
+                entry.weight = entryWeight;
+            } else {
+                result = onlyIfAbsent ? value : null;
+                index.put(key, recency.addFirstHandle(new Entry<>(key, value, entryWeight)));
+                weight += entryWeight;
+            }
+            evicted = evictExcess();
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(entry -> evictionListener.accept(entry.key, entry.value));
+        return result;
+    }
+
+    private CustomLinkedListImpl<Entry<K, V>> evictExcess() {
+        CustomLinkedListImpl<Entry<K, V>> evicted = new CustomLinkedListImpl<>();
+        while (weight > maximumWeight) {
+            Entry<K, V> eldest = recency.removeLast();
+            index.remove(eldest.key);
+            weight -= eldest.weight;
+            evicted.addLast(eldest);
+        }
+        return evicted;
+    }
+
+    /**
+     * Removes the entry and returns its value, or null if absent.
+     */
+    public V remove(K key) {
+        Objects.requireNonNull(key, "Key can't be null");
+        lock.lock();
+        try {
+            Handle<Entry<K, V>> handle = index.remove(key);
+            if (handle == null) {
+                return null;
+            }
+            Entry<K, V> entry = recency.remove(handle);
+            weight -= entry.weight;
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long weight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private V value;
+        private long weight;
+
+        private Entry(K key, V value, long weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
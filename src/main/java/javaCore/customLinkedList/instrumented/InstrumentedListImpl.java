@@ -0,0 +1,490 @@
+package javaCore.customLinkedList.instrumented;
+
+import javaCore.customLinkedList.CustomList;
+import javaCore.customLinkedList.ListProbes;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Decorator that counts operations on another {@link CustomList}, records how many links positional
+ * operations follow, measures the bytes allocated by the calling thread during each operation and
+ * estimates the heap held by the list structure, excluding the elements.
+ * <p>
+ * Walks and the retained size are reported by the delegate itself through {@link ListProbes}, so
+ * cursors and O(1) or O(log n) lookups are accounted for; walks aren't recorded for delegates that
+ * don't report them, and the retained size is -1 for delegates that don't estimate it. The retained
+ * size is computed on request by walking the delegate, in O(n) for linked structures; it isn't
+ * synchronised with the list, so for delegates that aren't thread-safe it is only a rough figure when
+ * read from another thread, such as a JMX client, while the list is being modified.
+ * <p>
+ * Walks longer than the configured threshold are attributed to their call site, found with
+ * {@link StackWalker}; the first long walk from each call site is logged as a warning. Statistics
+ * are available from {@link #stats()} and over JMX after {@link #registerMBean()}.
+ */
+@Slf4j
+public class InstrumentedListImpl<E> implements CustomList<E> {
+
+    private static final int DEFAULT_LONG_WALK_THRESHOLD = 1024;
+    private static final int WALK_BUCKETS = Integer.SIZE + 1;
+    private static final com.sun.management.ThreadMXBean THREADS = allocationMeter();
+
+    private final String name;
+    private final CustomList<E> delegate;
+    private final int longWalkThreshold;
+
+    private final LongAdder[] operationCounts = newAdders(ListOperation.values().length);
+    private final LongAdder[] walkHistogram = newAdders(WALK_BUCKETS);
+    private final LongAdder walkLengthTotal = new LongAdder();
+    private final LongAccumulator maxWalkLength = new LongAccumulator(Math::max, 0);
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder allocatingOperations = new LongAdder();
+    private final Map<String, LongAdder> longWalkCallSites = new ConcurrentHashMap<>();
+
+    private ObjectName registeredName;
+
+    public InstrumentedListImpl(String name, CustomList<E> delegate) {
+        this(name, delegate, DEFAULT_LONG_WALK_THRESHOLD);
+    }
+
+    public InstrumentedListImpl(String name, CustomList<E> delegate, int longWalkThreshold) {
+        this.name = Objects.requireNonNull(name, "Name can't be null");
+        this.delegate = Objects.requireNonNull(delegate, "Delegate list can't be null");
+        if (longWalkThreshold < 1) {
+            throw new IllegalArgumentException("Long walk threshold must be positive: " + longWalkThreshold);
+        }
+        this.longWalkThreshold = longWalkThreshold;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationMeter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads;
+        }
+        log.warn("Instrumented List: per-thread allocation measurement unavailable");
+        return null;
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void addFirst(E e) {
+        long allocatedBefore = allocatedSoFar();
+        delegate.addFirst(e);
+        record(ListOperation.ADD_FIRST, allocatedBefore);
+    }
+
+    @Override
+    public void addLast(E e) {
+        long allocatedBefore = allocatedSoFar();
+        delegate.addLast(e);
+        record(ListOperation.ADD_LAST, allocatedBefore);
+    }
+
+    @Override
+    public void add(int index, E e) {
+        long walkedBefore = ListProbes.walkedLinks(delegate);
+        long allocatedBefore = allocatedSoFar();
+        delegate.add(index, e);
+        record(ListOperation.ADD_AT, allocatedBefore);
+        recordWalk(walkedBefore);
+    }
+
+    @Override
+    public void addAll(Collection<? extends E> elements) {
+        long allocatedBefore = allocatedSoFar();
+        delegate.addAll(elements);
+        record(ListOperation.ADD_ALL, allocatedBefore);
+    }
+
+    @Override
+    public void addAll(int index, Collection<? extends E> elements) {
+        long walkedBefore = ListProbes.walkedLinks(delegate);
+        long allocatedBefore = allocatedSoFar();
+        delegate.addAll(index, elements);
+        record(ListOperation.ADD_ALL, allocatedBefore);
+        recordWalk(walkedBefore);
+    }
+
+    @Override
+    public E getFirst() {
+        long allocatedBefore = allocatedSoFar();
+        E first = delegate.getFirst();
+        record(ListOperation.GET_FIRST, allocatedBefore);
+        return first;
+    }
+
+    @Override
+    public E getLast() {
+        long allocatedBefore = allocatedSoFar();
+        E last = delegate.getLast();
+        record(ListOperation.GET_LAST, allocatedBefore);
+        return last;
+    }
+
+    @Override
+    public E get(int index) {
+        long walkedBefore = ListProbes.walkedLinks(delegate);
+        long allocatedBefore = allocatedSoFar();
+        E element = delegate.get(index);
+        record(ListOperation.GET_AT, allocatedBefore);
+        recordWalk(walkedBefore);
+        return element;
+    }
+
+    @Override
+    public E removeFirst() {
+        long allocatedBefore = allocatedSoFar();
+        E removed = delegate.removeFirst();
+        record(ListOperation.REMOVE_FIRST, allocatedBefore);
+        return removed;
+    }
+
+    @Override
+    public E removeLast() {
+        long allocatedBefore = allocatedSoFar();
+        E removed = delegate.removeLast();
+        record(ListOperation.REMOVE_LAST, allocatedBefore);
+        return removed;
+    }
+
+    @Override
+    public E remove(int index) {
+        long walkedBefore = ListProbes.walkedLinks(delegate);
+        long allocatedBefore = allocatedSoFar();
+        E removed = delegate.remove(index);
+        record(ListOperation.REMOVE_AT, allocatedBefore);
+        recordWalk(walkedBefore);
+        return removed;
+    }
+
+    @Override
+    public void removeRange(int fromIndex, int toIndex) {
+        long walkedBefore = ListProbes.walkedLinks(delegate);
+        long allocatedBefore = allocatedSoFar();
+        delegate.removeRange(fromIndex, toIndex);
+        record(ListOperation.REMOVE_RANGE, allocatedBefore);
+        recordWalk(walkedBefore);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        long allocatedBefore = allocatedSoFar();
+        boolean removed = delegate.removeIf(filter);
+        record(ListOperation.REMOVE_IF, allocatedBefore);
+        return removed;
+    }
+
+    @Override
+    public void splice(CustomList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("A list can't be spliced into itself");
+        }
+        long allocatedBefore = allocatedSoFar();
+        delegate.splice(other);
+        record(ListOperation.SPLICE, allocatedBefore);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        long allocatedBefore = allocatedSoFar();
+        int index = delegate.indexOf(o);
+        record(ListOperation.INDEX_OF, allocatedBefore);
+        return index;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        operationCounts[ListOperation.ITERATE.ordinal()].increment();
+        return delegate.iterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        operationCounts[ListOperation.ITERATE.ordinal()].increment();
+        return delegate.spliterator();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private long allocatedSoFar() {
+        return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    private void record(ListOperation operation, long allocatedBefore) {
+        operationCounts[operation.ordinal()].increment();
+        if (THREADS == null) {
+            return;
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        if (allocated > 0) {
+            allocatedBytes.add(allocated);
+            allocatingOperations.increment();
+        }
+    }
+
+    private void recordWalk(long walkedBefore) {
+        if (walkedBefore < 0) {
+            return;
+        }
+        long walk = ListProbes.walkedLinks(delegate) - walkedBefore;
+        walkHistogram[bucketOf(walk)].increment();
+        walkLengthTotal.add(walk);
+        maxWalkLength.accumulate(walk);
+        if (walk >= longWalkThreshold) {
+            recordLongWalk(walk);
+        }
+    }
+
+    private void recordLongWalk(long walk) {
+        String callSite = StackWalker.getInstance()
+                                     .walk(frames -> frames.filter(f -> !isListFrame(f.getClassName()))
+                                                           .findFirst()
+                                                           .map(f -> f.toStackTraceElement().toString())
+                                                           .orElse("unknown"));
+        LongAdder count = longWalkCallSites.get(callSite);
+        if (count == null) {
+            LongAdder created = new LongAdder();
+            count = longWalkCallSites.putIfAbsent(callSite, created);
+            if (count == null) {
+                count = created;
+                log.warn("Instrumented List: {} walked {} of {} elements at {}", name, walk, delegate.size(),
+                         callSite);
+            }
+        }
+        count.increment();
+    }
+
+    private static boolean isListFrame(String className) {
+        return className.equals(InstrumentedListImpl.class.getName())
+                || className.equals(CustomList.class.getName());
+    }
+
+    private static int bucketOf(long walk) {
+        return Long.SIZE - Long.numberOfLeadingZeros(walk);
+    }
+
+    public ListStats stats() {
+        long[] histogram = walkHistogram();
+        long walks = walks(histogram);
+        long max = maxWalkLength.get();
+        return new ListStats(name,
+                             delegate.size(),
+                             ListProbes.estimatedRetainedBytes(delegate),
+                             operationCounts(),
+                             walks,
+                             averageWalkLength(walks),
+                             percentile(histogram, walks, max, 0.5),
+                             percentile(histogram, walks, max, 0.9),
+                             percentile(histogram, walks, max, 0.99),
+                             max,
+                             allocatedBytes(),
+                             allocatingOperations(),
+                             longWalkCallSites());
+    }
+
+    private long[] walkHistogram() {
+        long[] histogram = new long[WALK_BUCKETS];
+        for (int i = 0; i < WALK_BUCKETS; i++) {
+            histogram[i] = walkHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    private static long walks(long[] histogram) {
+        long walks = 0;
+        for (long bucket : histogram) {
+            walks += bucket;
+        }
+        return walks;
+    }
+
+    private double averageWalkLength(long walks) {
+        return walks == 0 ? 0 : (double) walkLengthTotal.sum() / walks;
+    }
+
+    private long walkLengthPercentile(double percentile) {
+        long[] histogram = walkHistogram();
+        return percentile(histogram, walks(histogram), maxWalkLength.get(), percentile);
+    }
+
+    private Map<ListOperation, Long> operationCounts() {
+        Map<ListOperation, Long> counts = new EnumMap<>(ListOperation.class);
+        for (ListOperation operation : ListOperation.values()) {
+            counts.put(operation, operationCounts[operation.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    private long allocatedBytes() {
+        return THREADS == null ? -1 : allocatedBytes.sum();
+    }
+
+    private long allocatingOperations() {
+        return THREADS == null ? -1 : allocatingOperations.sum();
+    }
+
+    private Map<String, Long> longWalkCallSites() {
+        Map<String, Long> callSites = new LinkedHashMap<>();
+        longWalkCallSites.entrySet()
+                         .stream()
+                         .sorted(Map.Entry.<String, LongAdder>comparingByValue(
+                                 (a, b) -> Long.compare(b.sum(), a.sum())))
+                         .forEach(entry -> callSites.put(entry.getKey(), entry.getValue().sum()));
+        return callSites;
+    }
+
+    private static long percentile(long[] histogram, long walks, long max, double percentile) {
+        long rank = (long) Math.ceil(percentile * walks);
+        long seen = 0;
+        for (int bucket = 0; bucket < histogram.length; bucket++) {
+            seen += histogram[bucket];
+            if (seen >= rank && seen > 0) {
+                return Math.min(max, (1L << bucket) - 1);
+            }
+        }
+        return 0;
+    }
+
+    public void resetStats() {
+        for (LongAdder count : operationCounts) {
+            count.reset();
+        }
+        for (LongAdder bucket : walkHistogram) {
+            bucket.reset();
+        }
+        walkLengthTotal.reset();
+        maxWalkLength.reset();
+        allocatedBytes.reset();
+        allocatingOperations.reset();
+        longWalkCallSites.clear();
+    }
+
+    public synchronized ObjectName registerMBean() {
+        if (registeredName != null) {
+            return registeredName;
+        }
+        try {
+            ObjectName objectName = new ObjectName("javaCore.customLinkedList:type=InstrumentedList,name="
+                                                           + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new StatsView(), objectName);
+            registeredName = objectName;
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register list statistics: " + name, e);
+        }
+    }
+
+    public synchronized void unregisterMBean() {
+        if (registeredName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            registeredName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister list statistics: " + name, e);
+        }
+    }
+
+    /**
+     * Reads each figure on its own, so a JMX client polling one attribute doesn't estimate the retained
+     * size on every call.
+     */
+    private class StatsView implements ListStatsMXBean {
+
+        @Override
+        public int getSize() {
+            return delegate.size();
+        }
+
+        @Override
+        public long getEstimatedRetainedBytes() {
+            return ListProbes.estimatedRetainedBytes(delegate);
+        }
+
+        @Override
+        public Map<String, Long> getOperationCounts() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            operationCounts().forEach((operation, count) -> counts.put(operation.name(), count));
+            return counts;
+        }
+
+        @Override
+        public long getWalks() {
+            return walks(walkHistogram());
+        }
+
+        @Override
+        public double getAverageWalkLength() {
+            return averageWalkLength(walks(walkHistogram()));
+        }
+
+        @Override
+        public long getWalkLengthP50() {
+            return walkLengthPercentile(0.5);
+        }
+
+        @Override
+        public long getWalkLengthP90() {
+            return walkLengthPercentile(0.9);
+        }
+
+        @Override
+        public long getWalkLengthP99() {
+            return walkLengthPercentile(0.99);
+        }
+
+        @Override
+        public long getMaxWalkLength() {
+            return maxWalkLength.get();
+        }
+
+        @Override
+        public long getAllocatedBytes() {
+            return allocatedBytes();
+        }
+
+        @Override
+        public long getAllocatingOperations() {
+            return allocatingOperations();
+        }
+
+        @Override
+        public Map<String, Long> getLongWalkCallSites() {
+            return longWalkCallSites();
+        }
+
+        @Override
+        public void reset() {
+            resetStats();
+        }
+    }
+}
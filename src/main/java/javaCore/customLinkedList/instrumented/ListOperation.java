@@ -0,0 +1,20 @@
+package javaCore.customLinkedList.instrumented;
+
+public enum ListOperation {
+
+    ADD_FIRST,
+    ADD_LAST,
+    ADD_AT,
+    ADD_ALL,
+    GET_FIRST,
+    GET_LAST,
+    GET_AT,
+    REMOVE_FIRST,
+    REMOVE_LAST,
+    REMOVE_AT,
+    REMOVE_RANGE,
+    REMOVE_IF,
+    SPLICE,
+    INDEX_OF,
+    ITERATE
+}
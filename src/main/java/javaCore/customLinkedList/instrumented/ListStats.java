@@ -0,0 +1,24 @@
+package javaCore.customLinkedList.instrumented;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the statistics gathered by {@link InstrumentedListImpl}. Walk lengths are the links
+ * positional operations followed as reported by the list, percentiles are the upper bounds of
+ * power-of-two buckets. The retained size is -1 when the list doesn't estimate it, allocation
+ * figures are -1 when the JVM can't measure them per thread.
+ */
+public record ListStats(String name,
+                        int size,
+                        long estimatedRetainedBytes,
+                        Map<ListOperation, Long> operationCounts,
+                        long walks,
+                        double averageWalkLength,
+                        long walkLengthP50,
+                        long walkLengthP90,
+                        long walkLengthP99,
+                        long maxWalkLength,
+                        long allocatedBytes,
+                        long allocatingOperations,
+                        Map<String, Long> longWalkCallSites) {
+}
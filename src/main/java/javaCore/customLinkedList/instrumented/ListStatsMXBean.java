@@ -0,0 +1,38 @@
+package javaCore.customLinkedList.instrumented;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ListStats}, registered by {@link InstrumentedListImpl#registerMBean()}.
+ */
+public interface ListStatsMXBean {
+
+    int getSize();
+
+    /**
+     * Walks the list on each call; racy for delegates that aren't thread-safe.
+     */
+    long getEstimatedRetainedBytes();
+
+    Map<String, Long> getOperationCounts();
+
+    long getWalks();
+
+    double getAverageWalkLength();
+
+    long getWalkLengthP50();
+
+    long getWalkLengthP90();
+
+    long getWalkLengthP99();
+
+    long getMaxWalkLength();
+
+    long getAllocatedBytes();
+
+    long getAllocatingOperations();
+
+    Map<String, Long> getLongWalkCallSites();
+
+    void reset();
+}
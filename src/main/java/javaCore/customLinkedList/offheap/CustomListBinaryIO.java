@@ -0,0 +1,230 @@
+package javaCore.customLinkedList.offheap;
+
+import javaCore.customLinkedList.CustomList;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ConcurrentModificationException;
+
+/**
+ * Streams {@link CustomList} contents in a compact binary format: a header of magic number and
+ * element count followed by one length-prefixed record per element. Elements are encoded by a
+ * {@link Serializer} straight into reusable direct buffers and decoded into the target list with
+ * {@code addLast}, without intermediate collections or strings.
+ */
+public final class CustomListBinaryIO {
+
+    private static final int MAGIC = 0x434C5354;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private CustomListBinaryIO() {
+    }
+
+    /**
+     * @return the number of bytes written
+     * @throws BufferOverflowException if {@code target} has no room for the whole list
+     */
+    public static <E> int write(CustomList<? extends E> list, Serializer<E> serializer, ByteBuffer target) {
+        int start = target.position();
+        int count = list.size();
+        target.putInt(MAGIC).putInt(count);
+        int written = 0;
+        for (E e : list) {
+            putRecord(target, serializer, e);
+            written++;
+        }
+        checkCount(count, written);
+        return target.position() - start;
+    }
+
+    /**
+     * Writes the list in batches; the header and the first batch go out in a single gathering
+     * write when the channel supports it.
+     *
+     * @return the number of bytes written
+     */
+    public static <E> long write(CustomList<? extends E> list, Serializer<E> serializer,
+                                 WritableByteChannel channel) throws IOException {
+        int count = list.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(count).flip();
+        ByteBuffer batch = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE);
+        long total = 0;
+        int written = 0;
+        try {
+            for (E e : list) {
+                int position = batch.position();
+                try {
+                    putRecord(batch, serializer, e);
+                } catch (BufferOverflowException overflow) {
+                    batch.position(position);
+                    total += flush(channel, header, batch);
+                    batch = fitRecord(batch, serializer, e);
+                }
+                written++;
+            }
+            checkCount(count, written);
+            total += flush(channel, header, batch);
+        } finally {
+            DirectBuffers.release(batch);
+        }
+        return total;
+    }
+
+    /**
+     * Appends the elements encoded at {@code source}'s position to {@code target}, leaving
+     * {@code source} after the last record.
+     */
+    public static <E, L extends CustomList<E>> L read(ByteBuffer source, Serializer<E> serializer, L target) {
+        int count = readHeader(source);
+        for (int i = 0; i < count; i++) {
+            int length = source.getInt();
+            checkLength(length);
+            int end = source.position() + length;
+            target.addLast(serializer.read(source.slice(source.position(), length)));
+            source.position(end);
+        }
+        return target;
+    }
+
+    /**
+     * Appends the elements read from the channel to {@code target}. The channel is read in full
+     * buffers, so reads may go past the end of the list: a {@link SeekableByteChannel} is moved back
+     * to the first byte after the list, while bytes read ahead from other channels are lost.
+     */
+    public static <E, L extends CustomList<E>> L read(ReadableByteChannel channel, Serializer<E> serializer,
+                                                      L target) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE).flip();
+        try {
+            buffer = fill(channel, buffer, HEADER_BYTES);
+            int count = readHeader(buffer);
+            for (int i = 0; i < count; i++) {
+                buffer = fill(channel, buffer, LENGTH_BYTES);
+                int length = buffer.getInt();
+                checkLength(length);
+                buffer = fill(channel, buffer, length);
+                target.addLast(serializer.read(buffer.slice(buffer.position(), length)));
+                buffer.position(buffer.position() + length);
+            }
+            if (buffer.hasRemaining() && channel instanceof SeekableByteChannel seekable) {
+                seekable.position(seekable.position() - buffer.remaining());
+            }
+        } finally {
+            DirectBuffers.release(buffer);
+        }
+        return target;
+    }
+
+    private static <E> void putRecord(ByteBuffer target, Serializer<E> serializer, E e) {
+        if (target.remaining() < LENGTH_BYTES) {
+            throw new BufferOverflowException();
+        }
+        int lengthPosition = target.position();
+        target.position(lengthPosition + LENGTH_BYTES);
+        serializer.write(target, e);
+        target.putInt(lengthPosition, target.position() - lengthPosition - LENGTH_BYTES);
+    }
+
+    /**
+     * Puts a record into the empty {@code batch}, replacing it with a larger buffer until the
+     * record fits.
+     */
+    private static <E> ByteBuffer fitRecord(ByteBuffer batch, Serializer<E> serializer, E e) {
+        ByteBuffer current = batch;
+        while (true) {
+            try {
+                putRecord(current, serializer, e);
+                return current;
+            } catch (BufferOverflowException overflow) {
+                if (current.capacity() > Integer.MAX_VALUE / 2) {
+                    throw new IllegalArgumentException("Element is too large to be written");
+                }
+                ByteBuffer larger = ByteBuffer.allocateDirect(current.capacity() * 2);
+                DirectBuffers.release(current);
+                current = larger;
+            }
+        }
+    }
+
+    private static long flush(WritableByteChannel channel, ByteBuffer header, ByteBuffer batch)
+            throws IOException {
+        batch.flip();
+        long written = 0;
+        if (header.hasRemaining() && channel instanceof GatheringByteChannel gathering) {
+            ByteBuffer[] buffers = {header, batch};
+            while (header.hasRemaining() || batch.hasRemaining()) {
+                written += gathering.write(buffers);
+            }
+        } else {
+            while (header.hasRemaining()) {
+                written += channel.write(header);
+            }
+            while (batch.hasRemaining()) {
+                written += channel.write(batch);
+            }
+        }
+        batch.clear();
+        return written;
+    }
+
+    /**
+     * Reads from the channel until {@code buffer} holds {@code required} unread bytes, compacting it
+     * first and replacing it with a larger one when it's too small. Every read may fill the whole
+     * buffer, so records are fetched in batches.
+     *
+     * @return the buffer in read mode, positioned at the unread bytes
+     */
+    private static ByteBuffer fill(ReadableByteChannel channel, ByteBuffer buffer, int required)
+            throws IOException {
+        if (buffer.remaining() >= required) {
+            return buffer;
+        }
+        ByteBuffer current = buffer;
+        if (current.capacity() < required) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(Integer.highestOneBit(required - 1) << 1);
+            larger.put(current);
+            DirectBuffers.release(current);
+            current = larger;
+        } else {
+            current.compact();
+        }
+        while (current.position() < required) {
+            if (channel.read(current) < 0) {
+                throw new EOFException("Unexpected end of the list data");
+            }
+        }
+        return current.flip();
+    }
+
+    private static int readHeader(ByteBuffer source) {
+        int magic = source.getInt();
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Not a list data stream, magic: " + Integer.toHexString(magic));
+        }
+        int count = source.getInt();
+        if (count < 0) {
+            throw new IllegalArgumentException("Incorrect element count: " + count);
+        }
+        return count;
+    }
+
+    private static void checkLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Incorrect record length: " + length);
+        }
+    }
+
+    private static void checkCount(int expected, int written) {
+        if (expected != written) {
+            throw new ConcurrentModificationException();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package javaCore.customLinkedList.offheap;
+
+import javaCore.customLinkedList.CustomList;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Append-only {@link CustomList} persisted in a directory as two memory-mapped files: a data log of
+ * length-prefixed records and an index of record offsets. The index header holds a magic number, the
+ * format version, the data segment size and the element count; a directory can only be reopened
+ * with the segment size it was created with, since record offsets depend on it. Reads are
+ * served from the page cache, so the list may outgrow the heap, and reopening the directory
+ * recovers the elements appended before. Records never span data segments; a record that doesn't
+ * fit the rest of a segment starts the next one.
+ * <p>
+ * The count is published after the record and its offset are written, so a process crash can lose
+ * at most the element being appended. {@link #flush()} forces the files to the storage device.
+ * Only {@code addLast}, {@code get}, {@code getFirst}, {@code getLast} and {@code size} are
+ * supported; the other operations throw {@link UnsupportedOperationException}.
+ */
+@Slf4j
+public class MappedFileListImpl<E> implements CustomList<E>, AutoCloseable {
+
+    private static final String DATA_FILE = "elements.dat";
+    static final String INDEX_FILE = "elements.idx";
+    private static final int MAGIC = 0x434C4958;
+    private static final int VERSION = 1;
+    private static final int VERSION_OFFSET = Integer.BYTES;
+    private static final int SEGMENT_SIZE_OFFSET = 2 * Integer.BYTES;
+    static final int COUNT_OFFSET = 2 * Long.BYTES;
+    private static final int HEADER_BYTES = COUNT_OFFSET + Long.BYTES;
+
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+    private static final int INDEX_SEGMENT_SIZE = 1 << 23;
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final Serializer<E> serializer;
+    private final MappedSegments data;
+    private final MappedSegments index;
+    private int size;
+    private long tail;
+    private boolean closed;
+
+    public MappedFileListImpl(Path directory, Serializer<E> serializer) {
+        this(directory, serializer, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public MappedFileListImpl(Path directory, Serializer<E> serializer, int segmentSize) {
+        this.serializer = Objects.requireNonNull(serializer, "Serializer can't be null");
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Segment size must be at least " + MIN_SEGMENT_SIZE + ": "
+                                                       + segmentSize);
+        }
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create " + directory, e);
+        }
+        this.index = new MappedSegments(directory.resolve(INDEX_FILE), INDEX_SEGMENT_SIZE);
+        try {
+            checkHeader(segmentSize);
+        } catch (RuntimeException e) {
+            index.close();
+            throw e;
+        }
+        this.data = new MappedSegments(directory.resolve(DATA_FILE), segmentSize);
+        recover();
+    }
+
+    private void checkHeader(int segmentSize) {
+        boolean created = index.fileSize() < HEADER_BYTES;
+        ByteBuffer header = index.segment(0);
+        if (created || header.getInt(0) == 0 && header.getLong(COUNT_OFFSET) == 0) {
+            header.putInt(SEGMENT_SIZE_OFFSET, segmentSize);
+            header.putInt(VERSION_OFFSET, VERSION);
+            header.putInt(0, MAGIC);
+            return;
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Corrupted index header, magic: " + Integer.toHexString(header.getInt(0)));
+        }
+        if (header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IllegalStateException("Unsupported index version: " + header.getInt(VERSION_OFFSET));
+        }
+        int storedSegmentSize = header.getInt(SEGMENT_SIZE_OFFSET);
+        if (storedSegmentSize != segmentSize) {
+            throw new IllegalArgumentException("Segment size " + segmentSize + " doesn't match the stored one: "
+                                                       + storedSegmentSize);
+        }
+    }
+
+    private void recover() {
+        long recordedSize = index.segment(0).getLong(COUNT_OFFSET);
+        if (recordedSize < 0 || recordedSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Corrupted index header: " + recordedSize + " elements");
+        }
+        size = (int) recordedSize;
+        while (size > 0 && !isRecordValid(size - 1)) {
+            size--;
+        }
+        if (size < recordedSize) {
+            log.warn("Mapped File List: dropped {} unreadable elements on recovery", recordedSize - size);
+            publishSize();
+        }
+        tail = size == 0 ? 0 : recordEnd(offsetOf(size - 1));
+    }
+
+    private boolean isRecordValid(int position) {
+        long offset = offsetOf(position);
+        int positionInSegment = data.positionInSegment(offset);
+        if (offset < 0 || offset + LENGTH_BYTES > data.fileSize()
+                || positionInSegment + LENGTH_BYTES > data.segmentSize()) {
+            return false;
+        }
+        if (position > 0 && offset <= offsetOf(position - 1)) {
+            return false;
+        }
+        int length = data.segment(offset).getInt(positionInSegment);
+        return length >= 0 && positionInSegment + LENGTH_BYTES + length <= data.segmentSize();
+    }
+
+    public void flush() {
+        checkOpen();
+        data.force();
+        index.force();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            data.close();
+        } finally {
+            index.close();
+        }
+    }
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        throw new UnsupportedOperationException("The mapped file list is append-only");
+    }
+
+    @Override
+    public void addLast(E e) {
+        checkOpen();
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Mapped file list capacity exceeded: " + size + " elements");
+        }
+        long offset = tail;
+        int length;
+        try {
+            length = writeRecord(offset, e);
+        } catch (BufferOverflowException overflow) {
+            if (data.positionInSegment(offset) == 0) {
+                throw elementTooLarge();
+            }
+            offset = nextSegmentStart(offset);
+            try {
+                length = writeRecord(offset, e);
+            } catch (BufferOverflowException tooLarge) {
+                throw elementTooLarge();
+            }
+        }
+        long indexEntry = HEADER_BYTES + (long) size * Long.BYTES;
+        index.segment(indexEntry).putLong(index.positionInSegment(indexEntry), offset);
+        tail = offset + LENGTH_BYTES + length;
+        size++;
+        publishSize();
+    }
+
+    private int writeRecord(long offset, E e) {
+        int position = data.positionInSegment(offset);
+        if (position + LENGTH_BYTES > data.segmentSize()) {
+            throw new BufferOverflowException();
+        }
+        ByteBuffer segment = data.segment(offset);
+        ByteBuffer payload = segment.slice(position + LENGTH_BYTES, data.segmentSize() - position - LENGTH_BYTES);
+        serializer.write(payload, e);
+        int length = payload.position();
+        segment.putInt(position, length);
+        return length;
+    }
+
+    private IllegalArgumentException elementTooLarge() {
+        return new IllegalArgumentException("Element doesn't fit into a segment of " + data.segmentSize() + " bytes");
+    }
+
+    private long nextSegmentStart(long offset) {
+        return offset - data.positionInSegment(offset) + data.segmentSize();
+    }
+
+    private void publishSize() {
+        index.segment(0).putLong(COUNT_OFFSET, size);
+    }
+
+    @Override
+    public void add(int index, E e) {
+        throw new UnsupportedOperationException("The mapped file list is append-only");
+    }
+
+    @Override
+    public E getFirst() {
+        checkNotEmpty();
+        return read(0);
+    }
+
+    @Override
+    public E getLast() {
+        checkNotEmpty();
+        return read(size - 1);
+    }
+
+    @Override
+    public E get(int index) {
+        checkOpen();
+        if (index < 0 || index > size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+        return read(index);
+    }
+
+    @Override
+    public E removeFirst() {
+        throw new UnsupportedOperationException("The mapped file list is append-only");
+    }
+
+    @Override
+    public E removeLast() {
+        throw new UnsupportedOperationException("The mapped file list is append-only");
+    }
+
+    @Override
+    public E remove(int index) {
+        throw new UnsupportedOperationException("The mapped file list is append-only");
+    }
+
+    private E read(int position) {
+        long offset = offsetOf(position);
+        ByteBuffer segment = data.segment(offset);
+        int positionInSegment = data.positionInSegment(offset);
+        int length = segment.getInt(positionInSegment);
+        return serializer.read(segment.slice(positionInSegment + LENGTH_BYTES, length));
+    }
+
+    private long offsetOf(int position) {
+        long indexEntry = HEADER_BYTES + (long) position * Long.BYTES;
+        return index.segment(indexEntry).getLong(index.positionInSegment(indexEntry));
+    }
+
+    private long recordEnd(long offset) {
+        return offset + LENGTH_BYTES + data.segment(offset).getInt(data.positionInSegment(offset));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The mapped file list is closed");
+        }
+    }
+
+    private void checkNotEmpty() {
+        checkOpen();
+        if (size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        checkOpen();
+        return new Iterator<>() {
+
+            private int nextIndex;
+
+            @Override
+            public boolean hasNext() {
+                return nextIndex < size;
+            }
+
+            @Override
+            public E next() {
+                checkOpen();
+                if (nextIndex >= size) {
+                    throw new NoSuchElementException("The requested element doesn't exist");
+                }
+                return read(nextIndex++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        forEach(e -> joiner.add(String.valueOf(e)));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package javaCore.customLinkedList.offheap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A file mapped lazily in fixed-size segments, so files larger than a single mapping (2 GB) can be
+ * addressed by a {@code long} offset. Mapping a segment beyond the end of the file grows it.
+ */
+final class MappedSegments implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+
+    MappedSegments(Path file, int segmentSize) {
+        this.segmentSize = segmentSize;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                            StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + file, e);
+        }
+    }
+
+    int segmentSize() {
+        return segmentSize;
+    }
+
+    long fileSize() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the file size", e);
+        }
+    }
+
+    MappedByteBuffer segment(long offset) {
+        int index = Math.toIntExact(offset / segmentSize);
+        while (segments.size() <= index) {
+            try {
+                segments.add(channel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() * segmentSize,
+                                         segmentSize));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to map segment " + segments.size(), e);
+            }
+        }
+        return segments.get(index);
+    }
+
+    int positionInSegment(long offset) {
+        return (int) (offset % segmentSize);
+    }
+
+    void force() {
+        segments.forEach(MappedByteBuffer::force);
+    }
+
+    @Override
+    public void close() {
+        segments.forEach(DirectBuffers::release);
+        segments.clear();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close the file", e);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package javaCore.customLinkedList.offheap;
+
+import javaCore.customLinkedList.CustomList;
+
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * {@link CustomList} of fixed-width records kept in a direct buffer outside the Java heap, laid out
+ * as a growable ring so both ends are amortized O(1) and positional changes shift the shorter side.
+ * Elements are decoded on every read. The memory is released by {@link #close()}, after which the
+ * list can't be used.
+ * <p>
+ * A {@link ByteBuffer} is indexed by {@code int}, so the records of one list can't exceed 2 GB;
+ * growing past that throws {@link IllegalStateException}. The foreign memory API would lift the
+ * limit, but it's still a preview feature in Java 21.
+ */
+public class OffHeapListImpl<E> implements CustomList<E>, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final RecordCodec<E> codec;
+    private final int recordSize;
+    private final ByteBuffer scratch;
+    private ByteBuffer buffer;
+    private int capacity;
+    private int head;
+    private int size;
+    private int modCount;
+
+    public OffHeapListImpl(RecordCodec<E> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    public OffHeapListImpl(RecordCodec<E> codec, int initialCapacity) {
+        this.codec = Objects.requireNonNull(codec, "Codec can't be null");
+        this.recordSize = codec.recordSize();
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("Record size must be positive: " + recordSize);
+        }
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be positive: " + initialCapacity);
+        }
+        long roundedCapacity = Long.highestOneBit((long) initialCapacity * 2 - 1);
+        checkCapacity(roundedCapacity);
+        this.capacity = (int) roundedCapacity;
+        this.buffer = ByteBuffer.allocateDirect(capacity * recordSize);
+        this.scratch = ByteBuffer.allocate(recordSize);
+    }
+
+    public long offHeapBytes() {
+        return buffer == null ? 0 : buffer.capacity();
+    }
+
+    @Override
+    public void close() {
+        ByteBuffer toRelease = buffer;
+        buffer = null;
+        size = 0;
+        modCount++;
+        DirectBuffers.release(toRelease);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        ByteBuffer encoded = encode(e);
+        ensureCapacityForOneMore();
+        head = (head - 1) & (capacity - 1);
+        put(0, encoded);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        ensureCapacityForOneMore();
+        write(size, e);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, E e) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        ByteBuffer encoded = encode(e);
+        ensureCapacityForOneMore();
+        if (index < size / 2) {
+            head = (head - 1) & (capacity - 1);
+            for (int i = 0; i < index; i++) {
+                moveRecord(i + 1, i);
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                moveRecord(i - 1, i);
+            }
+        }
+        put(index, encoded);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E getFirst() {
+        checkNotEmpty();
+        return read(0);
+    }
+
+    @Override
+    public E getLast() {
+        checkNotEmpty();
+        return read(size - 1);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return read(index);
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotEmpty();
+        E removed = read(0);
+        head = (head + 1) & (capacity - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotEmpty();
+        E removed = read(size - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        E removed = read(index);
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                moveRecord(i - 1, i);
+            }
+            head = (head + 1) & (capacity - 1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                moveRecord(i + 1, i);
+            }
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    private E read(int index) {
+        return codec.read(openBuffer(), offsetOf(index));
+    }
+
+    private void write(int index, E e) {
+        codec.write(openBuffer(), offsetOf(index), e);
+    }
+
+    /**
+     * Encodes into a scratch record, so a failing codec leaves the list unchanged when the records
+     * are about to be shifted.
+     */
+    private ByteBuffer encode(E e) {
+        codec.write(scratch, 0, e);
+        return scratch;
+    }
+
+    private void put(int index, ByteBuffer encoded) {
+        openBuffer().put(offsetOf(index), encoded, 0, recordSize);
+    }
+
+    private void moveRecord(int fromIndex, int toIndex) {
+        ByteBuffer open = openBuffer();
+        open.put(offsetOf(toIndex), open, offsetOf(fromIndex), recordSize);
+    }
+
+    private int offsetOf(int index) {
+        return ((head + index) & (capacity - 1)) * recordSize;
+    }
+
+    private ByteBuffer openBuffer() {
+        ByteBuffer open = buffer;
+        if (open == null) {
+            throw new IllegalStateException("The off-heap list is closed");
+        }
+        return open;
+    }
+
+    private void checkNotEmpty() {
+        openBuffer();
+        if (size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+    }
+
+    private void checkIndex(int index) {
+        openBuffer();
+        if (index < 0 || index > size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    private void checkCapacity(long records) {
+        if (records * recordSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Off-heap list capacity exceeded: " + records + " records");
+        }
+    }
+
+    private void ensureCapacityForOneMore() {
+        ByteBuffer old = openBuffer();
+        if (size < capacity) {
+            return;
+        }
+        long doubledCapacity = (long) capacity * 2;
+        checkCapacity(doubledCapacity);
+        int grownCapacity = (int) doubledCapacity;
+        ByteBuffer grown = ByteBuffer.allocateDirect(grownCapacity * recordSize);
+        int firstPart = Math.min(size, capacity - head);
+        grown.put(0, old, head * recordSize, firstPart * recordSize);
+        grown.put(firstPart * recordSize, old, 0, (size - firstPart) * recordSize);
+        buffer = grown;
+        capacity = grownCapacity;
+        head = 0;
+        DirectBuffers.release(old);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        openBuffer();
+        return new Itr();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            joiner.add(String.valueOf(read(i)));
+        }
+        return joiner.toString();
+    }
+
+    private class Itr implements Iterator<E> {
+
+        private int nextIndex;
+        private boolean canRemove;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (nextIndex >= size) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            canRemove = true;
+            return read(nextIndex++);
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (!canRemove) {
+                throw new IllegalStateException("Nothing to remove: next() hasn't been called");
+            }
+            OffHeapListImpl.this.remove(--nextIndex);
+            canRemove = false;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package javaCore.customLinkedList.offheap;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes elements into fixed-width records. Reads and writes use absolute offsets and must not
+ * touch more than {@link #recordSize()} bytes or change the buffer position.
+ */
+public interface RecordCodec<E> {
+
+    int recordSize();
+
+    void write(ByteBuffer target, int offset, E e);
+
+    E read(ByteBuffer source, int offset);
+
+    static RecordCodec<Integer> ofInt() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer target, int offset, Integer e) {
+                target.putInt(offset, e);
+            }
+
+            @Override
+            public Integer read(ByteBuffer source, int offset) {
+                return source.getInt(offset);
+            }
+        };
+    }
+
+    static RecordCodec<Long> ofLong() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer target, int offset, Long e) {
+                target.putLong(offset, e);
+            }
+
+            @Override
+            public Long read(ByteBuffer source, int offset) {
+                return source.getLong(offset);
+            }
+        };
+    }
+
+    static RecordCodec<Double> ofDouble() {
+        return new RecordCodec<>() {
+            @Override
+            public int recordSize() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer target, int offset, Double e) {
+                target.putDouble(offset, e);
+            }
+
+            @Override
+            public Double read(ByteBuffer source, int offset) {
+                return source.getDouble(offset);
+            }
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package javaCore.customLinkedList.offheap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes elements into variable-length records. {@link #write} puts the element at the target's
+ * position and advances it, throwing {@link java.nio.BufferOverflowException} when the element
+ * doesn't fit; {@link #read} decodes an element from all remaining bytes of the source.
+ */
+public interface Serializer<E> {
+
+    void write(ByteBuffer target, E e);
+
+    E read(ByteBuffer source);
+
+    static Serializer<String> ofUtf8() {
+        return new Serializer<>() {
+            @Override
+            public void write(ByteBuffer target, String e) {
+                target.put(e.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public String read(ByteBuffer source) {
+                if (source.hasArray()) {
+                    return new String(source.array(), source.arrayOffset() + source.position(), source.remaining(),
+                                      StandardCharsets.UTF_8);
+                }
+                byte[] bytes = new byte[source.remaining()];
+                source.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+
+    static Serializer<Integer> ofInt() {
+        return new Serializer<>() {
+            @Override
+            public void write(ByteBuffer target, Integer e) {
+                target.putInt(e);
+            }
+
+            @Override
+            public Integer read(ByteBuffer source) {
+                return source.getInt();
+            }
+        };
+    }
+
+    static Serializer<Long> ofLong() {
+        return new Serializer<>() {
+            @Override
+            public void write(ByteBuffer target, Long e) {
+                target.putLong(e);
+            }
+
+            @Override
+            public Long read(ByteBuffer source) {
+                return source.getLong();
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package javaCore.customLinkedList.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+
+public interface CustomDoubleList {
+
+    int size();
+
+    void addFirst(double e);
+
+    void addLast(double e);
+
+    void add(int index, double e);
+
+    double getFirstDouble();
+
+    double getLastDouble();
+
+    double getDouble(int index);
+
+    double removeFirstDouble();
+
+    double removeLastDouble();
+
+    double removeDouble(int index);
+
+    PrimitiveIterator.OfDouble iterator();
+
+    DoubleStream stream();
+}
@@ -0,0 +1,31 @@
+package javaCore.customLinkedList.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+public interface CustomIntList {
+
+    int size();
+
+    void addFirst(int e);
+
+    void addLast(int e);
+
+    void add(int index, int e);
+
+    int getFirstInt();
+
+    int getLastInt();
+
+    int getInt(int index);
+
+    int removeFirstInt();
+
+    int removeLastInt();
+
+    int removeInt(int index);
+
+    PrimitiveIterator.OfInt iterator();
+
+    IntStream stream();
+}
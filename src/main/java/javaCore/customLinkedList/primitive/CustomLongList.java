@@ -0,0 +1,31 @@
+package javaCore.customLinkedList.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+public interface CustomLongList {
+
+    int size();
+
+    void addFirst(long e);
+
+    void addLast(long e);
+
+    void add(int index, long e);
+
+    long getFirstLong();
+
+    long getLastLong();
+
+    long getLong(int index);
+
+    long removeFirstLong();
+
+    long removeLastLong();
+
+    long removeLong(int index);
+
+    PrimitiveIterator.OfLong iterator();
+
+    LongStream stream();
+}
@@ -0,0 +1,225 @@
+package javaCore.customLinkedList.primitive;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Growable ring buffer of {@code long} values: end operations are amortized O(1), positional ones
+ * shift the shorter side, and no operation boxes its values.
+ */
+public class CustomLongListImpl implements CustomLongList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] elements;
+    private int head;
+    private int size;
+    private int modCount;
+
+    public CustomLongListImpl() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CustomLongListImpl(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity can't be negative: " + initialCapacity);
+        }
+        this.elements = new long[capacityFor(initialCapacity)];
+    }
+
+    private static int capacityFor(int requested) {
+        if (requested >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Math.max(2, Integer.highestOneBit(Math.max(requested, 1) * 2 - 1));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void addFirst(long e) {
+        ensureCapacityForOneMore();
+        head = (head - 1) & mask();
+        elements[head] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(long e) {
+        ensureCapacityForOneMore();
+        elements[physical(size)] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, long e) {
+
+        if (index < 0 || index > size) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+
+        ensureCapacityForOneMore();
+        if (index < size / 2) {
+            head = (head - 1) & mask();
+            for (int i = 0; i < index; i++) {
+                elements[physical(i)] = elements[physical(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[physical(i)] = elements[physical(i - 1)];
+            }
+        }
+        elements[physical(index)] = e;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public long getFirstLong() {
+        checkNotEmpty();
+        return elements[head];
+    }
+
+    @Override
+    public long getLastLong() {
+        checkNotEmpty();
+        return elements[physical(size - 1)];
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkIndex(index);
+        return elements[physical(index)];
+    }
+
+    @Override
+    public long removeFirstLong() {
+        checkNotEmpty();
+        long removed = elements[head];
+        head = (head + 1) & mask();
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public long removeLastLong() {
+        checkNotEmpty();
+        long removed = elements[physical(size - 1)];
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public long removeLong(int index) {
+        checkIndex(index);
+        long removed = elements[physical(index)];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                elements[physical(i)] = elements[physical(i - 1)];
+            }
+            head = (head + 1) & mask();
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[physical(i)] = elements[physical(i + 1)];
+            }
+        }
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new Itr();
+    }
+
+    /**
+     * The stream binds to the list when its terminal operation starts and fails fast, like
+     * {@link #iterator()}, if the list is modified during the traversal.
+     */
+    @Override
+    public LongStream stream() {
+        return StreamSupport.longStream(() -> Spliterators.spliterator(iterator(), size, Spliterator.ORDERED),
+                                        Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED, false);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("The requested element doesn't exist");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index > size - 1) {
+            throw new IllegalArgumentException("Incorrect index provided: " + index);
+        }
+    }
+
+    private int physical(int index) {
+        return (head + index) & mask();
+    }
+
+    private int mask() {
+        return elements.length - 1;
+    }
+
+    private void ensureCapacityForOneMore() {
+        if (size < elements.length) {
+            return;
+        }
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("List capacity exceeded: " + MAX_CAPACITY);
+        }
+        long[] grown = new long[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (int i = 0; i < size; i++) {
+            joiner.add(String.valueOf(elements[physical(i)]));
+        }
+        return joiner.toString();
+    }
+
+    private class Itr implements PrimitiveIterator.OfLong {
+
+        private int cursor;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException("The requested element doesn't exist");
+            }
+            return elements[physical(cursor++)];
+        }
+    }
+}
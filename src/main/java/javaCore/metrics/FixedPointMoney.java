@@ -0,0 +1,98 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+import javaCore.metrics.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sum of positive order totals in {@code long} micro-units, for {@link MoneyMode#FIXED_POINT}.
+ * A price is supported when it's zero or between 0.001 and 10^7 in magnitude and has at most six
+ * fractional digits. The scale of {@code BigDecimal.valueOf(price)} is then the number of fractional
+ * digits of its shortest decimal representation, but at least one, as {@link Double#toString(double)}
+ * prints it, so results carry the same scale as in {@link MoneyMode#BIG_DECIMAL} mode.
+ */
+final class FixedPointMoney {
+
+    static final long UNSUPPORTED = Long.MIN_VALUE;
+
+    private static final int MICROS_SCALE = 6;
+    private static final double MICROS_PER_UNIT = 1e6;
+    private static final double MAX_PRICE = 1e7;
+    private static final double MIN_PRICE = 1e-3;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private long micros;
+    private int scale;
+    private long count;
+
+    /**
+     * Adds the totals of the orders with one of the statuses that are positive.
+     *
+     * @return false if a price isn't supported; the sum is incomplete then
+     * @throws ArithmeticException if the sum overflows
+     */
+    boolean addPositiveOrderTotals(List<Order> orders, Set<OrderStatus> statuses) {
+        for (Order order : orders) {
+            if (!statuses.contains(order.getStatus())) {
+                continue;
+            }
+            long orderMicros = 0;
+            int orderScale = 0;
+            for (OrderItem item : order.getItems()) {
+                long priceMicros = toMicros(item.getPrice());
+                if (priceMicros == UNSUPPORTED) {
+                    return false;
+                }
+                orderMicros = Math.addExact(orderMicros, Math.multiplyExact(priceMicros, item.getQuantity()));
+                orderScale = Math.max(orderScale, scaleOf(priceMicros));
+            }
+            if (orderMicros > 0) {
+                micros = Math.addExact(micros, orderMicros);
+                scale = Math.max(scale, orderScale);
+                count++;
+            }
+        }
+        return true;
+    }
+
+    BigDecimal total() {
+        return BigDecimal.valueOf(micros, MICROS_SCALE).setScale(scale);
+    }
+
+    /**
+     * Average of the added totals rounded half up to cents, or zero if none were added.
+     */
+    BigDecimal average() {
+        if (count == 0) {
+            return BigDecimal.ZERO;
+        }
+        long divisor = Math.multiplyExact(count, POWERS_OF_TEN[MICROS_SCALE - 2]);
+        long cents = micros / divisor;
+        long remainder = micros % divisor;
+        if (remainder >= divisor - remainder) {
+            cents++;
+        }
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    static long toMicros(double price) {
+        double magnitude = Math.abs(price);
+        if (!(magnitude < MAX_PRICE) || (magnitude < MIN_PRICE && price != 0)) {
+            return UNSUPPORTED;
+        }
+        long priceMicros = Math.round(price * MICROS_PER_UNIT);
+        return priceMicros / MICROS_PER_UNIT == price ? priceMicros : UNSUPPORTED;
+    }
+
+    static int scaleOf(long priceMicros) {
+        int scale = MICROS_SCALE;
+        while (scale > 1 && priceMicros % POWERS_OF_TEN[MICROS_SCALE - scale + 1] == 0) {
+            scale--;
+        }
+        return scale;
+    }
+}
@@ -0,0 +1,57 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Customer;
+import javaCore.metrics.entity.Order;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * {@link Metrics} computed in a single pass over the orders with a {@link MetricsAccumulator}.
+ * Results are identical to {@link MetricsImpl}. Every method scans the whole list, so callers that
+ * need several metrics should take them from one {@link #report(List)}.
+ */
+public class FusedMetricsImpl implements Metrics {
+
+    public MetricsReport report(List<Order> orders) {
+        MetricsAccumulator accumulator = new MetricsAccumulator();
+        for (Order order : orders) {
+            accumulator.accept(order);
+        }
+        return accumulator.report();
+    }
+
+    @Override
+    public List<String> getUniqueOrderCities(List<Order> orders) {
+        return report(orders).uniqueOrderCities();
+    }
+
+    @Override
+    public BigDecimal totalIncomeForAllCompletedOrders(List<Order> orders) {
+        return report(orders).totalIncomeForAllCompletedOrders();
+    }
+
+    @Override
+    public String mostPopularProductBySales(List<Order> orders) {
+        String product = report(orders).mostPopularProductBySales();
+        if (product == null) {
+            throw new NoSuchElementException("No sold products found: " + orders);
+        }
+        return product;
+    }
+
+    @Override
+    public BigDecimal avgCheckSumForDeliveredOrders(List<Order> orders) {
+        return report(orders).avgCheckSumForDeliveredOrders();
+    }
+
+    @Override
+    public Set<Customer> getAllCustomersWithOrdersAmountGreaterThan(List<Order> orders, int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Orders amounts can't be negative or zero: " + amount);
+        }
+        return report(orders).customersWithOrdersAmountGreaterThan(amount);
+    }
+}
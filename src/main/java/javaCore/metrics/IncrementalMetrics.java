@@ -0,0 +1,31 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Customer;
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@link Metrics} kept up to date from order events instead of being recomputed from a list. The
+ * queries describe all orders received so far, each with its latest status.
+ */
+public interface IncrementalMetrics {
+
+    void onOrder(Order order);
+
+    void onStatusChange(String orderId, OrderStatus status);
+
+    List<String> getUniqueOrderCities();
+
+    BigDecimal totalIncomeForAllCompletedOrders();
+
+    String mostPopularProductBySales();
+
+    BigDecimal avgCheckSumForDeliveredOrders();
+
+    Set<Customer> getAllCustomersWithOrdersAmountGreaterThan(int amount);
+
+}
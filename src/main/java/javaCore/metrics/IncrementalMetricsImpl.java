@@ -0,0 +1,212 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Customer;
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+import javaCore.metrics.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * {@link IncrementalMetrics} with running totals that a status change first retracts for the old
+ * status and then applies for the new one. Each order's total is computed once, when it arrives.
+ * Products and customers are bucketed by sales and order count, so the most popular product is
+ * found in O(log n) and customers above an amount in O(log n + result size); other queries are O(1)
+ * apart from copying their result.
+ * <p>
+ * Ties for the most popular product are broken differently from {@link MetricsImpl}: the product
+ * that reached the highest sales first is returned. All other results equal those of
+ * {@link MetricsImpl} over the same orders, with the same BigDecimal scale. Product names and
+ * quantities are copied when an order arrives, so later changes to its items don't affect the
+ * metrics. Methods are synchronized, so events and queries may come from different threads.
+ */
+public class IncrementalMetricsImpl implements IncrementalMetrics {
+
+    private final Map<String, TrackedOrder> orders = new HashMap<>();
+    private final Set<String> cities = new LinkedHashSet<>();
+
+    private BigDecimal completedIncome = BigDecimal.ZERO;
+    private final NavigableMap<Integer, Integer> completedScales = new TreeMap<>();
+    private BigDecimal deliveredIncome = BigDecimal.ZERO;
+    private long deliveredOrdersCount;
+
+    private final Map<String, ProductSales> productSales = new HashMap<>();
+    private final NavigableMap<Integer, Set<String>> productsBySales = new TreeMap<>();
+
+    private final Map<String, Customer> customers = new HashMap<>();
+    private final Map<String, Long> ordersCountByCustomer = new HashMap<>();
+    private final NavigableMap<Long, Set<String>> customersByOrdersCount = new TreeMap<>();
+
+    @Override
+    public synchronized void onOrder(Order order) {
+        if (orders.containsKey(order.getOrderId())) {
+            throw new IllegalArgumentException("Order is already registered: " + order.getOrderId());
+        }
+        if (order.getStatus() == null) {
+            throw new IllegalArgumentException("Order status can't be null: " + order.getOrderId());
+        }
+        Customer customer = order.getCustomer();
+        String customerId = customer.getCustomerId();
+        List<ItemSales> sales = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            sales.add(new ItemSales(item.getProductName(), item.getQuantity()));
+        }
+        TrackedOrder tracked = new TrackedOrder(sales, MetricsCalculations.totalByOrder(order));
+        orders.put(order.getOrderId(), tracked);
+
+        cities.add(customer.getCity());
+        customers.putIfAbsent(customerId, customer);
+        countOrder(customerId);
+
+        tracked.status = order.getStatus();
+        apply(tracked, 1);
+    }
+
+    @Override
+    public synchronized void onStatusChange(String orderId, OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Order status can't be null: " + orderId);
+        }
+        TrackedOrder tracked = orders.get(orderId);
+        if (tracked == null) {
+            throw new NoSuchElementException("The requested order doesn't exist: " + orderId);
+        }
+        if (tracked.status == status) {
+            return;
+        }
+        apply(tracked, -1);
+        tracked.status = status;
+        apply(tracked, 1);
+    }
+
+    /**
+     * Adds the order's contribution for its current status when {@code sign} is 1, retracts it
+     * when -1.
+     */
+    private void apply(TrackedOrder order, int sign) {
+        OrderStatus status = order.status;
+        if (status != OrderStatus.CANCELLED) {
+            for (ItemSales item : order.items) {
+                addSales(item.product(), sign * item.quantity(), sign);
+            }
+        }
+        if ((status == OrderStatus.SHIPPED || status == OrderStatus.DELIVERED) && order.total.signum() > 0) {
+            BigDecimal total = sign > 0 ? order.total : order.total.negate();
+            completedIncome = completedIncome.add(total);
+            completedScales.merge(order.total.scale(), sign, (a, b) -> a + b == 0 ? null : a + b);
+            if (status == OrderStatus.DELIVERED) {
+                deliveredIncome = deliveredIncome.add(total);
+                deliveredOrdersCount += sign;
+            }
+        }
+    }
+
+    private void addSales(String product, int quantity, int items) {
+        ProductSales sales = productSales.get(product);
+        if (sales == null) {
+            sales = new ProductSales();
+            productSales.put(product, sales);
+        } else {
+            removeFromBucket(productsBySales, sales.quantity, product);
+        }
+        sales.quantity += quantity;
+        sales.items += items;
+        if (sales.items == 0) {
+            productSales.remove(product);
+        } else {
+            productsBySales.computeIfAbsent(sales.quantity, q -> new LinkedHashSet<>()).add(product);
+        }
+    }
+
+    private void countOrder(String customerId) {
+        Long count = ordersCountByCustomer.get(customerId);
+        if (count != null) {
+            removeFromBucket(customersByOrdersCount, count, customerId);
+        }
+        long updated = count == null ? 1 : count + 1;
+        ordersCountByCustomer.put(customerId, updated);
+        customersByOrdersCount.computeIfAbsent(updated, c -> new LinkedHashSet<>()).add(customerId);
+    }
+
+    private static <K> void removeFromBucket(NavigableMap<K, Set<String>> buckets, K key, String value) {
+        Set<String> bucket = buckets.get(key);
+        bucket.remove(value);
+        if (bucket.isEmpty()) {
+            buckets.remove(key);
+        }
+    }
+
+    @Override
+    public synchronized List<String> getUniqueOrderCities() {
+        return Collections.unmodifiableList(new ArrayList<>(cities));
+    }
+
+    @Override
+    public synchronized BigDecimal totalIncomeForAllCompletedOrders() {
+        if (completedScales.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        return completedIncome.setScale(completedScales.lastKey());
+    }
+
+    @Override
+    public synchronized String mostPopularProductBySales() {
+        Map.Entry<Integer, Set<String>> best = productsBySales.lastEntry();
+        String product = best == null ? null : best.getValue().iterator().next();
+        if (product == null) {
+            throw new NoSuchElementException("No sold products found: " + orders.size() + " orders");
+        }
+        return product;
+    }
+
+    @Override
+    public synchronized BigDecimal avgCheckSumForDeliveredOrders() {
+        return MetricsCalculations.average(deliveredIncome, deliveredOrdersCount);
+    }
+
+    @Override
+    public synchronized Set<Customer> getAllCustomersWithOrdersAmountGreaterThan(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Orders amounts can't be negative or zero: " + amount);
+        }
+        Set<Customer> result = new HashSet<>();
+        for (Set<String> bucket : customersByOrdersCount.tailMap((long) amount, false).values()) {
+            for (String customerId : bucket) {
+                result.add(customers.get(customerId));
+            }
+        }
+        return result;
+    }
+
+    private static final class TrackedOrder {
+
+        private final List<ItemSales> items;
+        private final BigDecimal total;
+        private OrderStatus status;
+
+        private TrackedOrder(List<ItemSales> items, BigDecimal total) {
+            this.items = items;
+            this.total = total;
+        }
+    }
+
+    private record ItemSales(String product, int quantity) {
+    }
+
+    private static final class ProductSales {
+
+        private int quantity;
+        private int items;
+    }
+}
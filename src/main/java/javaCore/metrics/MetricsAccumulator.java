@@ -0,0 +1,104 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Customer;
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+import javaCore.metrics.entity.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Running state of every {@link Metrics} value, fed one order at a time. Each order is visited once
+ * and its total is computed at most once. Accumulators of consecutive order ranges can be merged
+ * with {@link #combine(MetricsAccumulator)}; first-seen order of cities, products and customers is
+ * kept, so the {@link #report()} of a combined accumulator equals the one of a single pass,
+ * including the winner among tied products.
+ */
+public class MetricsAccumulator {
+
+    private final Set<String> cities = new LinkedHashSet<>();
+    private final Map<String, Integer> productSales = new LinkedHashMap<>();
+    private final Map<String, Customer> customers = new LinkedHashMap<>();
+    private final Map<String, Long> ordersCountByCustomer = new LinkedHashMap<>();
+    private BigDecimal completedIncome = BigDecimal.ZERO;
+    private BigDecimal deliveredIncome = BigDecimal.ZERO;
+    private long deliveredOrdersCount;
+    private String lastSoldProduct;
+    private boolean lastSoldProductWasNew;
+
+    public void accept(Order order) {
+        Customer customer = order.getCustomer();
+        cities.add(customer.getCity());
+        customers.putIfAbsent(customer.getCustomerId(), customer);
+        ordersCountByCustomer.merge(customer.getCustomerId(), 1L, Long::sum);
+
+        OrderStatus status = order.getStatus();
+        if (status != OrderStatus.CANCELLED) {
+            for (OrderItem item : order.getItems()) {
+                int products = productSales.size();
+                productSales.merge(item.getProductName(), item.getQuantity(), Integer::sum);
+                lastSoldProduct = item.getProductName();
+                lastSoldProductWasNew = productSales.size() > products;
+            }
+        }
+        if (status == OrderStatus.SHIPPED || status == OrderStatus.DELIVERED) {
+            BigDecimal total = MetricsCalculations.totalByOrder(order);
+            if (total.compareTo(BigDecimal.ZERO) > 0) {
+                completedIncome = completedIncome.add(total);
+                if (status == OrderStatus.DELIVERED) {
+                    deliveredIncome = deliveredIncome.add(total);
+                    deliveredOrdersCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the state of an accumulator fed with the orders that follow this one's.
+     */
+    public MetricsAccumulator combine(MetricsAccumulator next) {
+        cities.addAll(next.cities);
+        if (!next.productSales.isEmpty()) {
+            lastSoldProductWasNew = next.lastSoldProductWasNew && !productSales.containsKey(next.lastSoldProduct);
+            lastSoldProduct = next.lastSoldProduct;
+        }
+        next.productSales.forEach((product, quantity) -> productSales.merge(product, quantity, Integer::sum));
+        next.customers.forEach(customers::putIfAbsent);
+        next.ordersCountByCustomer.forEach((id, count) -> ordersCountByCustomer.merge(id, count, Long::sum));
+        completedIncome = completedIncome.add(next.completedIncome);
+        deliveredIncome = deliveredIncome.add(next.deliveredIncome);
+        deliveredOrdersCount += next.deliveredOrdersCount;
+        return this;
+    }
+
+    public MetricsReport report() {
+        return new MetricsReport(Collections.unmodifiableList(new ArrayList<>(cities)),
+                                 completedIncome,
+                                 MetricsCalculations.mostPopularProduct(firstSeenOrderedSales()),
+                                 MetricsCalculations.average(deliveredIncome, deliveredOrdersCount),
+                                 Collections.unmodifiableMap(new HashMap<>(customers)),
+                                 Collections.unmodifiableMap(new HashMap<>(ordersCountByCustomer)));
+    }
+
+    /**
+     * Rebuilds the {@link HashMap} that {@code Collectors.toMap} fills in {@link MetricsImpl}, so
+     * ties resolve the same way. Its iteration order depends on the sequence of {@code merge} calls
+     * that insert new keys, replayed here in first-seen order, and on whether a call followed the
+     * last insertion, since {@code merge} resizes the table before inserting rather than after.
+     */
+    private Map<String, Integer> firstSeenOrderedSales() {
+        Map<String, Integer> sales = new HashMap<>();
+        productSales.forEach((product, quantity) -> sales.merge(product, quantity, Integer::sum));
+        if (!productSales.isEmpty() && !lastSoldProductWasNew) {
+            sales.merge(lastSoldProduct, 0, Integer::sum);
+        }
+        return sales;
+    }
+}
@@ -0,0 +1,50 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * Calculations shared by the {@link Metrics} implementations, so they agree on scale, rounding and
+ * tie-breaking.
+ */
+final class MetricsCalculations {
+
+    private MetricsCalculations() {
+    }
+
+    static BigDecimal totalByOrder(Order order) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderItem item : order.getItems()) {
+            total = total.add(itemTotal(item));
+        }
+        return total;
+    }
+
+    static BigDecimal itemTotal(OrderItem item) {
+        return BigDecimal.valueOf(item.getPrice()).multiply(
+                BigDecimal.valueOf(item.getQuantity())
+        );
+    }
+
+    /**
+     * First product with the highest sales in the map's iteration order, or null when there are no
+     * sales or the winner has no name.
+     */
+    static String mostPopularProduct(Map<String, Integer> productSales) {
+        return productSales.entrySet()
+                           .stream()
+                           .max(Map.Entry.comparingByValue())
+                           .map(Map.Entry::getKey)
+                           .orElse(null);
+    }
+
+    static BigDecimal average(BigDecimal total, long count) {
+        return count != 0
+                ? total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO;
+    }
+}
@@ -7,7 +7,6 @@ import javaCore.metrics.entity.OrderItem;
 import javaCore.metrics.entity.OrderStatus;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
@@ -20,6 +19,22 @@ import java.util.stream.Stream;
 
 public class MetricsImpl implements Metrics {
 
+    private static final Set<OrderStatus> COMPLETED_STATUSES = EnumSet.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+    private static final Set<OrderStatus> DELIVERED_STATUSES = EnumSet.of(OrderStatus.DELIVERED);
+
+    private final MoneyMode moneyMode;
+
+    public MetricsImpl() {
+        this(MoneyMode.BIG_DECIMAL);
+    }
+
+    public MetricsImpl(MoneyMode moneyMode) {
+        if (moneyMode == null) {
+            throw new IllegalArgumentException("Money mode can't be null");
+        }
+        this.moneyMode = moneyMode;
+    }
+
     @Override
     public List<String> getUniqueOrderCities(List<Order> orders) {
         return orders.stream()
@@ -30,33 +45,39 @@ public class MetricsImpl implements Metrics {
 
     @Override
     public BigDecimal totalIncomeForAllCompletedOrders(List<Order> orders) {
-        Set<OrderStatus> statuses = EnumSet.of(OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+        FixedPointMoney fixedPoint = sumFixedPoint(orders, COMPLETED_STATUSES);
+        if (fixedPoint != null) {
+            return fixedPoint.total();
+        }
 
         Stream<Order> orderStream = orders.stream()
-                                          .filter(o -> statuses.contains(o.getStatus()));
+                                          .filter(o -> COMPLETED_STATUSES.contains(o.getStatus()));
 
         return sumAllOrdersWithPositiveTotalOnly(orderStream);
     }
 
+    /**
+     * @return the fixed-point sum, or null in {@link MoneyMode#BIG_DECIMAL} mode or when it can't be
+     * computed exactly
+     */
+    private FixedPointMoney sumFixedPoint(List<Order> orders, Set<OrderStatus> statuses) {
+        if (moneyMode != MoneyMode.FIXED_POINT) {
+            return null;
+        }
+        FixedPointMoney sum = new FixedPointMoney();
+        try {
+            return sum.addPositiveOrderTotals(orders, statuses) ? sum : null;
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
     private BigDecimal sumAllOrdersWithPositiveTotalOnly(Stream<Order> orders) {
-        return orders.map(this::calculateTotalByOrder)
+        return orders.map(MetricsCalculations::totalByOrder)
                      .filter(totalByOrder -> totalByOrder.compareTo(BigDecimal.ZERO) > 0)
                      .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    private BigDecimal calculateTotalByOrder(Order order) {
-        return order.getItems()
-                    .stream()
-                    .map(this::itemTotal)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    private BigDecimal itemTotal(OrderItem item) {
-        return BigDecimal.valueOf(item.getPrice()).multiply(
-                BigDecimal.valueOf(item.getQuantity())
-        );
-    }
-
     @Override
     public String mostPopularProductBySales(List<Order> orders) {
         Map<String, Integer> productSales =
@@ -67,21 +88,26 @@ public class MetricsImpl implements Metrics {
                                                 OrderItem::getQuantity,
                                                 Integer::sum,
                                                 HashMap::new));
-        return productSales.entrySet()
-                           .stream()
-                           .max(Map.Entry.comparingByValue())
-                           .map(Map.Entry::getKey)
-                           .orElseThrow(() -> new NoSuchElementException("No sold products found: " + orders));
+        String product = MetricsCalculations.mostPopularProduct(productSales);
+        if (product == null) {
+            throw new NoSuchElementException("No sold products found: " + orders);
+        }
+        return product;
     }
 
     @Override
     public BigDecimal avgCheckSumForDeliveredOrders(List<Order> orders) {
+        FixedPointMoney fixedPoint = sumFixedPoint(orders, DELIVERED_STATUSES);
+        if (fixedPoint != null) {
+            return fixedPoint.average();
+        }
+
         Predicate<Order> deliveredOnly = o -> o.getStatus() == OrderStatus.DELIVERED;
 
         long deliveredOrdersCount =
                 orders.stream()
                       .filter(deliveredOnly)
-                      .map(this::calculateTotalByOrder)
+                      .map(MetricsCalculations::totalByOrder)
                       .filter(totalByOrder -> totalByOrder.compareTo(BigDecimal.ZERO) > 0)
                       .count();
 
@@ -89,9 +115,7 @@ public class MetricsImpl implements Metrics {
                                           .filter(deliveredOnly);
         BigDecimal totalDeliveredAmount = sumAllOrdersWithPositiveTotalOnly(orderStream);
 
-        return deliveredOrdersCount != 0
-                ? totalDeliveredAmount.divide(BigDecimal.valueOf(deliveredOrdersCount), 2, RoundingMode.HALF_UP)
-                : BigDecimal.ZERO;
+        return MetricsCalculations.average(totalDeliveredAmount, deliveredOrdersCount);
     }
 
     @Override
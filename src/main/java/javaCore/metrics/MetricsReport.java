@@ -0,0 +1,32 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Customer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Every {@link Metrics} value computed over one list of orders. Customers and their order counts
+ * are keyed by customer id, so the amount threshold can be chosen after the scan. The most popular
+ * product is null when nothing was sold.
+ */
+public record MetricsReport(List<String> uniqueOrderCities,
+                            BigDecimal totalIncomeForAllCompletedOrders,
+                            String mostPopularProductBySales,
+                            BigDecimal avgCheckSumForDeliveredOrders,
+                            Map<String, Customer> customersById,
+                            Map<String, Long> ordersCountByCustomerId) {
+
+    public Set<Customer> customersWithOrdersAmountGreaterThan(int amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Orders amounts can't be negative or zero: " + amount);
+        }
+        return ordersCountByCustomerId.entrySet().stream()
+                                      .filter(es -> es.getValue() > amount)
+                                      .map(es -> customersById.get(es.getKey()))
+                                      .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,20 @@
+package javaCore.metrics;
+
+/**
+ * How {@link MetricsImpl} computes money totals.
+ */
+public enum MoneyMode {
+
+    /**
+     * Every item total is a {@link java.math.BigDecimal}.
+     */
+    BIG_DECIMAL,
+
+    /**
+     * Totals are accumulated as {@code long} micro-units and converted to
+     * {@link java.math.BigDecimal} once per result, with the same value, scale and rounding as
+     * {@link #BIG_DECIMAL}. Prices that have no exact micro-unit value, and sums that overflow, are
+     * computed with {@link java.math.BigDecimal} instead.
+     */
+    FIXED_POINT
+}
@@ -0,0 +1,78 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Order;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * {@link Metrics} computed in parallel: the orders are split into index ranges processed in a
+ * {@link ForkJoinPool}, each into its own {@link MetricsAccumulator}, and the partial results are
+ * combined in order. Results are identical to {@link MetricsImpl}. Lists below
+ * {@link #SEQUENTIAL_THRESHOLD} orders are processed on the calling thread. {@link RandomAccess}
+ * lists are indexed in place, so they must not change during the call; other lists are copied to an
+ * array first.
+ */
+public class ParallelMetricsImpl extends FusedMetricsImpl {
+
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+    private static final int MIN_RANGE_SIZE = 1 << 11;
+    private static final int RANGES_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+
+    public ParallelMetricsImpl() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelMetricsImpl(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Fork-join pool can't be null");
+        }
+        this.pool = pool;
+    }
+
+    @Override
+    public MetricsReport report(List<Order> orders) {
+        if (orders.size() < SEQUENTIAL_THRESHOLD) {
+            return super.report(orders);
+        }
+        List<Order> indexed = orders instanceof RandomAccess ? orders : Arrays.asList(orders.toArray(new Order[0]));
+        int rangeSize = Math.max(MIN_RANGE_SIZE, indexed.size() / (pool.getParallelism() * RANGES_PER_WORKER));
+        return pool.invoke(new AccumulateTask(indexed, 0, indexed.size(), rangeSize)).report();
+    }
+
+    private static final class AccumulateTask extends RecursiveTask<MetricsAccumulator> {
+
+        private final List<Order> orders;
+        private final int from;
+        private final int to;
+        private final int rangeSize;
+
+        private AccumulateTask(List<Order> orders, int from, int to, int rangeSize) {
+            this.orders = orders;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected MetricsAccumulator compute() {
+            if (to - from <= rangeSize) {
+                MetricsAccumulator accumulator = new MetricsAccumulator();
+                for (int i = from; i < to; i++) {
+                    accumulator.accept(orders.get(i));
+                }
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            AccumulateTask prefixTask = new AccumulateTask(orders, from, middle, rangeSize);
+            prefixTask.fork();
+            MetricsAccumulator suffix = new AccumulateTask(orders, middle, to, rangeSize).compute();
+            return prefixTask.join().combine(suffix);
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+abstract class AbstractCustomListTest {
+
+    protected abstract <T> CustomList<T> createList();
+
+    private static Stream<Arguments> checkAddition() {
+        return Stream.of(
+                Arguments.of(Collections.emptyList(), "New Elem", 1),
+                Arguments.of(List.of("EL_1", "EL_2"), "New Elem", 3)
+        );
+    }
+
+    private static Stream<Arguments> checkGettingByIndexThrows() {
+        return Stream.of(
+                Arguments.of(Collections.emptyList(), 1),
+                Arguments.of(List.of("EL_1", "EL_2"), 2),
+                Arguments.of(List.of("EL_1", "EL_2"), -1)
+        );
+    }
+
+    private static Stream<Arguments> checkAddingByIndex() {
+        return Stream.of(
+                Arguments.of(Collections.emptyList(), 0, "New_Elem", 1),
+                Arguments.of(List.of("EL_1", "EL_2"), 0, "New_Elem", 3),
+                Arguments.of(List.of("EL_1", "EL_2"), 2, "New_Elem", 3),
+                Arguments.of(List.of("EL_1", "EL_2"), 1, "New_Elem", 3),
+                Arguments.of(List.of("EL_1", "EL_2", "EL_3"), 1, "New_Elem", 4),
+                Arguments.of(
+                        IntStream.rangeClosed(1, 10)
+                                 .mapToObj(i -> "El_" + i)
+                                 .toList(), 7, "New Elem", 11)
+        );
+    }
+
+    private static Stream<Arguments> checkAddingByIndexThrows() {
+        return Stream.of(
+                Arguments.of(Collections.emptyList(), 1, "New_Elem"),
+                Arguments.of(List.of("EL_1", "EL_2"), 3, "New_Elem"),
+                Arguments.of(List.of("EL_1", "EL_2"), -1, "New_Elem")
+        );
+    }
+
+    private static Stream<Arguments> checkRemoveByIndex() {
+        return Stream.of(
+                Arguments.of(List.of("EL_1", "EL_2"), 0, "EL_1", 1),
+                Arguments.of(List.of("EL_1", "EL_2"), 1, "EL_2", 1),
+                Arguments.of(List.of("EL_1", "EL_2", "EL_3"), 1, "EL_2", 2),
+                Arguments.of(List.of("EL_1", "EL_2", "EL_3", "EL_4"), 2, "EL_3", 3)
+        );
+    }
+
+    private static Stream<Arguments> checkRemoveByIndexThrows() {
+        return Stream.of(
+                Arguments.of(Collections.emptyList(), 0),
+                Arguments.of(Collections.emptyList(), 1),
+                Arguments.of(List.of("EL_1", "EL_2"), 3),
+                Arguments.of(List.of("EL_1", "EL_2"), -1)
+        );
+    }
+
+    private CustomList<String> getPrepopulatedCustomLinkedList(List<String> initList) {
+        CustomList<String> list = createList();
+        initList.forEach(list::addLast);
+        return list;
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkAddition")
+    void addFirst(List<String> initList, String expectedElement, int expectedSize) {
+        CustomList<String> list = createList();
+        initList.forEach(list::addFirst);
+
+        list.addFirst(expectedElement);
+
+        assertEquals(expectedSize, list.size());
+        assertEquals(expectedElement, list.get(0));
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkAddition")
+    void addLast(List<String> initList, String expectedElement, int expectedSize) {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+
+        list.addLast(expectedElement);
+
+        assertEquals(expectedSize, list.size());
+        assertEquals(expectedElement, list.get(expectedSize - 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkGettingByIndexThrows")
+    void getByIndexShouldThrowException(List<String> initList, int index) {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.get(index));
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkAddingByIndex")
+    void addByIndexPositive(List<String> initList, int index, String expectedElement, int expectedSize) {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+
+        list.add(index, expectedElement);
+
+        assertEquals(expectedSize, list.size());
+        assertEquals(expectedElement, list.get(index));
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkAddingByIndexThrows")
+    void addByIndexShouldThrowException(List<String> initList, int index, String expectedElement) {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.add(index, expectedElement));
+
+    }
+
+    @Test
+    void getFirstPositive() {
+        String expectedResult = "El_1";
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of(expectedResult, "El_2"));
+
+        String actualResult = list.getFirst();
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void getFirstShouldThrow() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
+
+        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+    }
+
+    @Test
+    void getLastPositive() {
+        String expectedResult = "El_2";
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("El_1", expectedResult));
+
+        String actualResult = list.getLast();
+
+        assertEquals(expectedResult, actualResult);
+    }
+
+    @Test
+    void getLastShouldThrow() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
+
+        assertThrowsExactly(NoSuchElementException.class, list::getLast);
+    }
+
+    @Test
+    void removeFirstPositive() {
+        String expectedResult = "El_1";
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of(expectedResult, "El_2"));
+        int initSize = list.size();
+
+        String actualResult = list.removeFirst();
+
+        assertEquals(expectedResult, actualResult);
+        assertEquals(initSize - 1, list.size());
+    }
+
+    @Test
+    void removeFirstShouldThrow() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
+
+        assertThrowsExactly(NoSuchElementException.class, list::removeFirst);
+    }
+
+    @Test
+    void removeLastPositive() {
+        String expectedResult = "El_2";
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("El_1", expectedResult));
+        int initSize = list.size();
+
+        String actualResult = list.removeLast();
+
+        assertEquals(expectedResult, actualResult);
+        assertEquals(initSize - 1, list.size());
+    }
+
+    @Test
+    void removeLastShouldThrow() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
+
+        assertThrowsExactly(NoSuchElementException.class, list::removeLast);
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkRemoveByIndex")
+    void removeByIndexPositive(List<String> initList, int index, String expectedElement, int expectedSize) {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+
+        String removed = list.remove(index);
+
+        assertEquals(expectedSize, list.size());
+        assertEquals(expectedElement, removed);
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkRemoveByIndexThrows")
+    void removeByIndexShouldThrow(List<String> initList, int index) {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(index));
+    }
+
+    @Test
+    void removeFirstAndLastSingleElement() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("El_1"));
+
+        assertEquals("El_1", list.removeFirst());
+        list.addLast("El_2");
+        assertEquals("El_2", list.removeLast());
+
+        assertEquals(0, list.size());
+        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+    }
+
+    @Test
+    void removeByIndexAtEndsKeepsHeadAndTail() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1", "EL_2", "EL_3"));
+
+        list.remove(0);
+        list.remove(1);
+
+        assertEquals("EL_2", list.getFirst());
+        assertEquals("EL_2", list.getLast());
+    }
+
+    @Test
+    void iteratorVisitsElementsInOrder() {
+        List<String> expected = IntStream.range(0, 100)
+                                         .mapToObj(i -> "El_" + i)
+                                         .toList();
+        CustomList<String> list = getPrepopulatedCustomLinkedList(expected);
+
+        List<String> actual = new ArrayList<>();
+        list.forEach(actual::add);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void iteratorRemoveDeletesLastReturned() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1", "EL_2", "EL_3", "EL_4"));
+
+        Iterator<String> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            String element = iterator.next();
+            if (element.equals("EL_1") || element.equals("EL_3")) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(2, list.size());
+        assertEquals("EL_2", list.getFirst());
+        assertEquals("EL_4", list.getLast());
+        assertThrowsExactly(IllegalStateException.class, list.iterator()::remove);
+    }
+
+    @Test
+    void iteratorShouldFailFastOnModification() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1", "EL_2"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        list.addLast("EL_3");
+
+        assertThrowsExactly(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void spliteratorIsSizedAndSplittable() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(IntStream.range(0, 1_000)
+                                                                           .mapToObj(i -> "El_" + i)
+                                                                           .toList());
+
+        Spliterator<String> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(1_000, spliterator.estimateSize());
+
+        Spliterator<String> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(1_000, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    void streamsMatchSequentialAndParallel() {
+        CustomList<Integer> list = createList();
+        IntStream.range(0, 10_000).forEach(list::addLast);
+
+        long expectedSum = 10_000L * 9_999 / 2;
+
+        assertEquals(expectedSum, list.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expectedSum, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(list.stream().toList(), list.parallelStream().toList());
+        assertFalse(list.stream().anyMatch(i -> i < 0));
+    }
+
+    @Test
+    void addAllAppendsInOrder() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1"));
+
+        list.addAll(List.of("EL_2", "EL_3"));
+
+        assertEquals(List.of("EL_1", "EL_2", "EL_3"), list.stream().toList());
+    }
+
+    @Test
+    void addAllByIndexInsertsInOrder() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1", "EL_4"));
+
+        list.addAll(1, List.of("EL_2", "EL_3"));
+        list.addAll(0, List.of("EL_0"));
+        list.addAll(list.size(), List.of("EL_5"));
+        list.addAll(2, Collections.emptyList());
+
+        assertEquals(List.of("EL_0", "EL_1", "EL_2", "EL_3", "EL_4", "EL_5"), list.stream().toList());
+        assertEquals("EL_0", list.getFirst());
+        assertEquals("EL_5", list.getLast());
+        assertEquals("EL_3", list.get(3));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.addAll(7, List.of("New_Elem")));
+    }
+
+    @Test
+    void removeRangeRemovesHalfOpenRange() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(IntStream.range(0, 6)
+                                                                           .mapToObj(i -> "EL_" + i)
+                                                                           .toList());
+
+        list.removeRange(1, 3);
+        list.removeRange(2, 2);
+        list.removeRange(3, 4);
+
+        assertEquals(List.of("EL_0", "EL_3", "EL_4"), list.stream().toList());
+        assertEquals("EL_4", list.getLast());
+
+        list.removeRange(0, list.size());
+
+        assertEquals(0, list.size());
+        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+    }
+
+    @Test
+    void removeRangeShouldThrowOnIncorrectRange() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1", "EL_2"));
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.removeRange(-1, 1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.removeRange(2, 1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.removeRange(0, 3));
+    }
+
+    @Test
+    void spliceMovesAllElementsAndEmptiesOther() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1"));
+        CustomList<String> other = getPrepopulatedCustomLinkedList(List.of("EL_2", "EL_3"));
+
+        list.splice(other);
+        list.addLast("EL_4");
+
+        assertEquals(List.of("EL_1", "EL_2", "EL_3", "EL_4"), list.stream().toList());
+        assertEquals(0, other.size());
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.splice(list));
+    }
+
+    @Test
+    void indexOfAndContainsFindFirstEqualElement() {
+        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("EL_1", "EL_2", "EL_1"));
+        list.addLast(null);
+
+        assertEquals(0, list.indexOf("EL_1"));
+        assertEquals(1, list.indexOf(new String("EL_2")));
+        assertEquals(3, list.indexOf(null));
+        assertEquals(-1, list.indexOf("EL_3"));
+        assertTrue(list.contains("EL_2"));
+        assertFalse(list.contains("EL_3"));
+    }
+
+    @Test
+    void removeIfRemovesMatchingElements() {
+        CustomList<Integer> list = createList();
+        IntStream.range(0, 10).forEach(list::addLast);
+        list.get(7);
+
+        assertTrue(list.removeIf(i -> i % 3 == 0));
+        assertFalse(list.removeIf(i -> i > 100));
+
+        assertEquals(List.of(1, 2, 4, 5, 7, 8), list.stream().toList());
+        assertEquals(7, list.get(4));
+        assertEquals(8, list.getLast());
+        list.addLast(10);
+        assertEquals(10, list.get(6));
+    }
+
+    @Test
+    void parallelBulkOperationsMatchSequentialOnes() {
+        CustomList<Integer> small = createList();
+        small.addAll(List.of(3, 1, 2));
+        CustomList<Integer> large = createList();
+        IntStream.range(0, 50_000).forEach(large::addLast);
+
+        assertEquals(List.of("3", "1", "2"), small.mapParallel(String::valueOf).stream().toList());
+        assertEquals(List.of(3, 2), small.filterParallel(i -> i > 1).stream().toList());
+        assertEquals(6, small.reduceParallel(0, Integer::sum));
+
+        assertEquals(IntStream.range(0, 50_000).mapToObj(i -> i * 2L).toList(),
+                     large.mapParallel(i -> i * 2L).stream().toList());
+        assertEquals(IntStream.range(0, 50_000).filter(i -> i % 7 == 0).boxed().toList(),
+                     large.filterParallel(i -> i % 7 == 0).stream().toList());
+        assertEquals(50_000L * 49_999 / 2, large.reduceParallel(0L, (sum, i) -> sum + i, Long::sum));
+        assertEquals(50_000, large.size());
+    }
+}
@@ -0,0 +1,90 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class ArrayLinkedListImplTest extends AbstractCustomListTest {
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new ArrayLinkedListImpl<>(1);
+    }
+
+    @Test
+    void handlesStayValidWhileOtherElementsChange() {
+        ArrayLinkedListImpl<String> list = new ArrayLinkedListImpl<>();
+        int first = list.addLastHandle("EL_1");
+        int second = list.addLastHandle("EL_2");
+        list.addFirstHandle("EL_0");
+        int middle = list.addHandle(2, "EL_1.5");
+
+        list.removeFirst();
+        list.addFirst("New_Elem");
+
+        assertEquals("EL_2", list.getByHandle(second));
+        assertEquals("EL_1.5", list.removeHandle(middle));
+        assertEquals("EL_1", list.removeHandle(first));
+        assertEquals(List.of("New_Elem", "EL_2"), list.stream().toList());
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.removeHandle(first));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.getByHandle(100));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.getByHandle(-1));
+        assertEquals(first, list.addLastHandle("EL_3"));
+    }
+
+    @Test
+    void randomHandleAndPositionalOperationsMatchArrayList() {
+        ArrayLinkedListImpl<Integer> list = new ArrayLinkedListImpl<>();
+        List<Integer> expected = new ArrayList<>();
+        Map<Integer, Integer> handles = new HashMap<>();
+        Random random = new Random(19);
+
+        for (int i = 0; i < 20_000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            switch (random.nextInt(6)) {
+                case 0 -> {
+                    handles.put(i, list.addFirstHandle(i));
+                    expected.add(0, i);
+                }
+                case 1 -> {
+                    handles.put(i, list.addLastHandle(i));
+                    expected.add(i);
+                }
+                case 2 -> {
+                    handles.put(i, list.addHandle(index, i));
+                    expected.add(index, i);
+                }
+                case 3 -> {
+                    if (index < expected.size()) {
+                        Integer removed = expected.remove(index);
+                        handles.remove(removed);
+                        assertEquals(removed, list.remove(index));
+                    }
+                }
+                case 4 -> {
+                    if (index < expected.size()) {
+                        Integer element = expected.remove(index);
+                        assertEquals(element, list.removeHandle(handles.remove(element)));
+                    }
+                }
+                default -> {
+                    if (index < expected.size()) {
+                        Integer element = expected.get(index);
+                        assertEquals(element, list.get(index));
+                        assertEquals(element, list.getByHandle(handles.get(element)));
+                    }
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+
+        assertEquals(expected, list.stream().toList());
+    }
+}
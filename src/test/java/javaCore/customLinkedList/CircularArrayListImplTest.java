@@ -0,0 +1,71 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class CircularArrayListImplTest extends AbstractCustomListTest {
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new CircularArrayListImpl<>(2);
+    }
+
+    @Test
+    void constructorShouldThrowWhenCapacityIncorrect() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new CircularArrayListImpl<>(0));
+    }
+
+    @Test
+    void wrappedDequeOperationsMatchArrayList() {
+        CustomList<Integer> list = createList();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(15);
+
+        for (int i = 0; i < 20_000; i++) {
+            int index = random.nextInt(expected.size() + 1);
+            switch (random.nextInt(7)) {
+                case 0 -> {
+                    list.addFirst(i);
+                    expected.add(0, i);
+                }
+                case 1 -> {
+                    list.addLast(i);
+                    expected.add(i);
+                }
+                case 2 -> {
+                    list.add(index, i);
+                    expected.add(index, i);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.remove(0), list.removeFirst());
+                    }
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+                    }
+                }
+                case 5 -> {
+                    if (index < expected.size()) {
+                        assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                default -> {
+                    if (index < expected.size()) {
+                        assertEquals(expected.get(index), list.get(index));
+                    }
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+
+        assertEquals(expected, list.stream().toList());
+    }
+}
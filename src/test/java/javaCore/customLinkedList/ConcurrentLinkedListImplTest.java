@@ -0,0 +1,276 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentLinkedListImplTest extends AbstractCustomListTest {
+
+    private static final int THREADS = 8;
+    private static final int ELEMENTS_PER_THREAD = 20_000;
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new ConcurrentLinkedListImpl<>();
+    }
+
+    private CustomList<String> getPrepopulatedList(List<String> initList) {
+        CustomList<String> list = createList();
+        initList.forEach(list::addLast);
+        return list;
+    }
+
+    @Test
+    @Override
+    void iteratorShouldFailFastOnModification() {
+        CustomList<String> list = getPrepopulatedList(List.of("EL_1", "EL_2"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        list.addLast("EL_3");
+
+        assertEquals("EL_2", iterator.next());
+        assertEquals("EL_3", iterator.next());
+    }
+
+    @Test
+    @Override
+    void spliteratorIsSizedAndSplittable() {
+        CustomList<String> list = getPrepopulatedList(IntStream.range(0, 1_000)
+                                                               .mapToObj(i -> "El_" + i)
+                                                               .toList());
+
+        Spliterator<String> spliterator = list.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.CONCURRENT));
+        assertEquals(1_000, spliterator.estimateSize());
+
+        Spliterator<String> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(1_000, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    @Override
+    void indexOfAndContainsFindFirstEqualElement() {
+        CustomList<String> list = getPrepopulatedList(List.of("EL_1", "EL_2", "EL_1"));
+
+        assertEquals(0, list.indexOf("EL_1"));
+        assertEquals(1, list.indexOf(new String("EL_2")));
+        assertEquals(-1, list.indexOf(null));
+        assertEquals(-1, list.indexOf("EL_3"));
+        assertTrue(list.contains("EL_2"));
+        assertFalse(list.contains("EL_3"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("checkAddingByIndex")
+    @Override
+    void addByIndexPositive(List<String> initList, int index, String expectedElement, int expectedSize) {
+        CustomList<String> list = getPrepopulatedList(initList);
+
+        if (index != 0 && index != initList.size()) {
+            assertThrowsExactly(UnsupportedOperationException.class, () -> list.add(index, expectedElement));
+            assertEquals(initList, list.stream().toList());
+            return;
+        }
+        list.add(index, expectedElement);
+
+        assertEquals(expectedSize, list.size());
+        assertEquals(expectedElement, list.get(index));
+    }
+
+    @Test
+    @Override
+    void addAllByIndexInsertsInOrder() {
+        CustomList<String> list = getPrepopulatedList(List.of("EL_1", "EL_4"));
+
+        list.addAll(0, List.of("EL_0"));
+        list.addAll(list.size(), List.of("EL_5"));
+        list.addAll(2, Collections.emptyList());
+
+        assertEquals(List.of("EL_0", "EL_1", "EL_4", "EL_5"), list.stream().toList());
+        assertThrowsExactly(UnsupportedOperationException.class, () -> list.addAll(1, List.of("EL_2")));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.addAll(7, List.of("New_Elem")));
+    }
+
+    @Test
+    void middleInsertionIsRejectedWhileEndsAreUsedConcurrently() throws Exception {
+        int prefilled = 1_000;
+        CustomList<Integer> list = new ConcurrentLinkedListImpl<>();
+        IntStream.range(0, prefilled).forEach(i -> list.addLast(-1));
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int base = t * ELEMENTS_PER_THREAD;
+                boolean front = t % 2 == 0;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        if (front) {
+                            list.addFirst(base + i);
+                        } else {
+                            list.addLast(base + i);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executorService.submit(() -> {
+                start.await();
+                for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                    try {
+                        list.add(prefilled / 2, -2);
+                    } catch (UnsupportedOperationException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        List<Integer> contents = list.stream().toList();
+        assertEquals(ELEMENTS_PER_THREAD, rejected.get());
+        assertEquals(prefilled + THREADS * ELEMENTS_PER_THREAD, list.size());
+        assertFalse(contents.contains(-2));
+        for (int t = 0; t < THREADS; t++) {
+            int base = t * ELEMENTS_PER_THREAD;
+            boolean front = t % 2 == 0;
+            List<Integer> own = contents.stream().filter(e -> e >= base && e < base + ELEMENTS_PER_THREAD).toList();
+            List<Integer> expected = IntStream.range(0, ELEMENTS_PER_THREAD)
+                                              .map(i -> front ? base + ELEMENTS_PER_THREAD - 1 - i : base + i)
+                                              .boxed()
+                                              .toList();
+            assertEquals(expected, own);
+        }
+    }
+
+    @Test
+    void dequeOperationsPositive() {
+        CustomList<String> list = getPrepopulatedList(List.of("EL_2", "EL_3"));
+
+        list.addFirst("EL_1");
+        list.addLast("EL_4");
+
+        assertEquals(4, list.size());
+        assertEquals("EL_1", list.getFirst());
+        assertEquals("EL_4", list.getLast());
+        assertEquals("EL_1", list.removeFirst());
+        assertEquals("EL_4", list.removeLast());
+        assertEquals("[EL_2, EL_3]", list.toString());
+    }
+
+    @Test
+    void dequeOperationsShouldThrowWhenEmpty() {
+        CustomList<String> list = getPrepopulatedList(Collections.emptyList());
+
+        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+        assertThrowsExactly(NoSuchElementException.class, list::getLast);
+        assertThrowsExactly(NoSuchElementException.class, list::removeFirst);
+        assertThrowsExactly(NoSuchElementException.class, list::removeLast);
+    }
+
+    @Test
+    void positionalOperationsPositive() {
+        CustomList<String> list = getPrepopulatedList(List.of("EL_1", "EL_2", "EL_3"));
+
+        list.add(0, "EL_0");
+        list.add(list.size(), "EL_4");
+
+        assertEquals("EL_2", list.get(2));
+        assertEquals("EL_2", list.remove(2));
+        assertEquals("[EL_0, EL_1, EL_3, EL_4]", list.toString());
+        assertEquals(4, list.size());
+    }
+
+    @Test
+    void positionalOperationsShouldThrow() {
+        CustomList<String> list = getPrepopulatedList(List.of("EL_1", "EL_2"));
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.get(2));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(-1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.add(3, "New_Elem"));
+        assertThrowsExactly(NullPointerException.class, () -> list.addLast(null));
+    }
+
+    @Test
+    void concurrentProducersAndConsumersSeeEveryElementOnce() throws Exception {
+        CustomList<Integer> list = new ConcurrentLinkedListImpl<>();
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger remaining = new AtomicInteger(THREADS * ELEMENTS_PER_THREAD);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS * 2);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int base = t * ELEMENTS_PER_THREAD;
+                boolean front = t % 2 == 0;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ELEMENTS_PER_THREAD; i++) {
+                        if (front) {
+                            list.addFirst(base + i);
+                        } else {
+                            list.addLast(base + i);
+                        }
+                    }
+                    return null;
+                }));
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    while (remaining.get() > 0) {
+                        try {
+                            Integer element = front ? list.removeFirst() : list.removeLast();
+                            assertTrue(consumed.add(element));
+                            remaining.decrementAndGet();
+                        } catch (NoSuchElementException e) {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(THREADS * ELEMENTS_PER_THREAD, consumed.size());
+        assertEquals(0, list.size());
+    }
+}
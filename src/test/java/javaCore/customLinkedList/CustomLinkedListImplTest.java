@@ -1,221 +1,331 @@
 package javaCore.customLinkedList;
 
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Collections;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.Random;
+import java.util.Spliterator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-class CustomLinkedListImplTest {
+class CustomLinkedListImplTest extends AbstractCustomListTest {
 
-    private static Stream<Arguments> checkAddition() {
-        return Stream.of(
-                Arguments.of(Collections.emptyList(), "New Elem", 1),
-                Arguments.of(List.of("EL_1", "EL_2"), "New Elem", 3)
-        );
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new CustomLinkedListImpl<>();
     }
 
-    private static Stream<Arguments> checkGettingByIndexThrows() {
-        return Stream.of(
-                Arguments.of(Collections.emptyList(), 1),
-                Arguments.of(List.of("EL_1", "EL_2"), 2),
-                Arguments.of(List.of("EL_1", "EL_2"), -1)
-        );
-    }
-
-    private static Stream<Arguments> checkAddingByIndex() {
-        return Stream.of(
-                Arguments.of(Collections.emptyList(), 0, "New_Elem", 1),
-                Arguments.of(List.of("EL_1", "EL_2"), 0, "New_Elem", 3),
-                Arguments.of(List.of("EL_1", "EL_2"), 2, "New_Elem", 3),
-                Arguments.of(List.of("EL_1", "EL_2"), 1, "New_Elem", 3),
-                Arguments.of(List.of("EL_1", "EL_2", "EL_3"), 1, "New_Elem", 4),
-                Arguments.of(
-                        IntStream.rangeClosed(1, 10)
-                                 .mapToObj(i -> "El_" + i)
-                                 .toList(), 7, "New Elem", 11)
-        );
-    }
-
-    private static Stream<Arguments> checkAddingByIndexThrows() {
-        return Stream.of(
-                Arguments.of(Collections.emptyList(), 1, "New_Elem"),
-                Arguments.of(List.of("EL_1", "EL_2"), 3, "New_Elem"),
-                Arguments.of(List.of("EL_1", "EL_2"), -1, "New_Elem")
-        );
-    }
-
-    private static Stream<Arguments> checkRemoveByIndex() {
-        return Stream.of(
-                Arguments.of(List.of("EL_1", "EL_2"), 0, "EL_1", 1),
-                Arguments.of(List.of("EL_1", "EL_2"), 1, "EL_2", 1),
-                Arguments.of(List.of("EL_1", "EL_2", "EL_3"), 1, "EL_2", 2),
-                Arguments.of(List.of("EL_1", "EL_2", "EL_3", "EL_4"), 2, "EL_3", 3)
-        );
-    }
-
-    private static Stream<Arguments> checkRemoveByIndexThrows() {
-        return Stream.of(
-                Arguments.of(Collections.emptyList(), 0),
-                Arguments.of(Collections.emptyList(), 1),
-                Arguments.of(List.of("EL_1", "EL_2"), 3),
-                Arguments.of(List.of("EL_1", "EL_2"), -1)
-        );
-    }
-
-    private CustomList<String> getPrepopulatedCustomLinkedList(List<String> initList) {
-        CustomList<String> list = new CustomLinkedListImpl<>();
-        initList.forEach(list::addLast);
-        return list;
+    @Test
+    void sequentialAccessMixedWithModificationsMatchesArrayList() {
+        CustomList<Integer> list = createList();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 200; i++) {
+            list.addLast(i);
+            expected.add(i);
+        }
+
+        int index = 0;
+        for (int i = 0; i < 20_000; i++) {
+            index = Math.floorMod(index + random.nextInt(5) - 1, Math.max(expected.size(), 1));
+            switch (random.nextInt(8)) {
+                case 0 -> {
+                    list.addFirst(-i);
+                    expected.add(0, -i);
+                }
+                case 1 -> {
+                    list.addLast(-i);
+                    expected.add(-i);
+                }
+                case 2 -> {
+                    list.add(index, -i);
+                    expected.add(index, -i);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.remove(index), list.remove(index));
+                    }
+                }
+                case 4 -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.remove(0), list.removeFirst());
+                    }
+                }
+                case 5 -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.remove(expected.size() - 1), list.removeLast());
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        assertEquals(expected.get(index), list.get(index));
+                    }
+                }
+            }
+            assertEquals(expected.size(), list.size());
+        }
+
+        assertEquals(expected, list.stream().toList());
     }
 
-    @ParameterizedTest
-    @MethodSource("checkAddition")
-    void addFirst(List<String> initList, String expectedElement, int expectedSize) {
-        CustomList<String> list = new CustomLinkedListImpl<>();
-        initList.forEach(list::addFirst);
-
-        list.addFirst(expectedElement);
-
-        assertEquals(expectedSize, list.size());
-        assertEquals(expectedElement, list.get(0));
+    @Test
+    void iteratorRemoveKeepsPositionalAccessConsistent() {
+        CustomList<Integer> list = createList();
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+        list.get(6);
+
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(7, list.get(3));
+        assertEquals(5, list.get(2));
+        assertEquals(9, list.get(4));
     }
 
-    @ParameterizedTest
-    @MethodSource("checkAddition")
-    void addLast(List<String> initList, String expectedElement, int expectedSize) {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
-
-        list.addLast(expectedElement);
-
-        assertEquals(expectedSize, list.size());
-        assertEquals(expectedElement, list.get(expectedSize - 1));
+    @Test
+    void constructorShouldThrowWhenPoolCapacityNegative() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new CustomLinkedListImpl<>(-1));
     }
 
-    @ParameterizedTest
-    @MethodSource("checkGettingByIndexThrows")
-    void getByIndexShouldThrowException(List<String> initList, int index) {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
-
-        assertThrowsExactly(IllegalArgumentException.class, () -> list.get(index));
+    @Test
+    void pooledQueueChurnDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        CustomList<String> queue = new CustomLinkedListImpl<>(64);
+        String element = "El";
+        for (int i = 0; i < 64; i++) {
+            queue.addLast(element);
+        }
+        churn(queue, element, 10_000);
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        churn(queue, element, 1_000_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(64, queue.size());
+        assertTrue(allocated < 64 * 1024, "Allocated bytes: " + allocated);
     }
 
-    @ParameterizedTest
-    @MethodSource("checkAddingByIndex")
-    void addByIndexPositive(List<String> initList, int index, String expectedElement, int expectedSize) {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
-
-        list.add(index, expectedElement);
-
-        assertEquals(expectedSize, list.size());
-        assertEquals(expectedElement, list.get(index));
+    private void churn(CustomList<String> queue, String element, int operations) {
+        for (int i = 0; i < operations; i++) {
+            queue.addLast(element);
+            queue.removeFirst();
+        }
     }
 
-    @ParameterizedTest
-    @MethodSource("checkAddingByIndexThrows")
-    void addByIndexShouldThrowException(List<String> initList, int index, String expectedElement) {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
-
-        assertThrowsExactly(IllegalArgumentException.class, () -> list.add(index, expectedElement));
-
+    @Test
+    void splitMovesSuffixIntoNewList() {
+        CustomLinkedListImpl<Integer> list = new CustomLinkedListImpl<>();
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+        list.get(8);
+
+        CustomLinkedListImpl<Integer> suffix = list.split(6);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), list.stream().toList());
+        assertEquals(List.of(6, 7, 8, 9), suffix.stream().toList());
+        assertEquals(5, list.getLast());
+        assertEquals(8, suffix.get(2));
+        assertEquals(0, list.split(6).size());
+        assertEquals(0, list.split(0).getFirst());
+        assertEquals(0, list.size());
     }
 
     @Test
-    void getFirstPositive() {
-        String expectedResult = "El_1";
-        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of(expectedResult, "El_2"));
-
-        String actualResult = list.getFirst();
-
-        assertEquals(expectedResult, actualResult);
+    void spliceRelinksAnotherCustomLinkedListAndDrainsOtherImplementations() {
+        CustomLinkedListImpl<Integer> list = new CustomLinkedListImpl<>();
+        CustomLinkedListImpl<Integer> linked = new CustomLinkedListImpl<>();
+        CustomList<Integer> unrolled = new UnrolledLinkedListImpl<>();
+        for (int i = 0; i < 3; i++) {
+            linked.addLast(i);
+            unrolled.addLast(i + 3);
+        }
+
+        list.splice(linked);
+        list.splice(unrolled);
+        linked.addLast(100);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), list.stream().toList());
+        assertEquals(4, list.get(4));
+        assertEquals(List.of(100), linked.stream().toList());
+        assertEquals(0, unrolled.size());
     }
 
     @Test
-    void getFirstShouldThrow() {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
-
-        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+    void sortIsStableAndMatchesListSort() {
+        CustomLinkedListImpl<int[]> list = new CustomLinkedListImpl<>();
+        List<int[]> expected = new ArrayList<>();
+        Random random = new Random(16);
+        for (int i = 0; i < 10_001; i++) {
+            int[] element = {random.nextInt(100), i};
+            list.addLast(element);
+            expected.add(element);
+        }
+        list.get(5_000);
+
+        Comparator<int[]> byKey = Comparator.comparingInt(e -> e[0]);
+        list.sort(byKey);
+        expected.sort(byKey);
+
+        assertEquals(expected, list.stream().toList());
+        assertEquals(expected.get(5_000), list.get(5_000));
+        assertEquals(expected.get(10_000), list.getLast());
+        assertEquals(expected.get(9_999), list.remove(9_999));
     }
 
     @Test
-    void getLastPositive() {
-        String expectedResult = "El_2";
-        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("El_1", expectedResult));
+    void sortWithoutComparatorUsesNaturalOrder() {
+        CustomLinkedListImpl<String> list = new CustomLinkedListImpl<>();
+        list.addAll(List.of("EL_3", "EL_1", "EL_2"));
+        Iterator<String> iterator = list.iterator();
 
-        String actualResult = list.getLast();
+        list.sort(null);
+        list.addFirst("EL_0");
 
-        assertEquals(expectedResult, actualResult);
+        assertEquals(List.of("EL_0", "EL_1", "EL_2", "EL_3"), list.stream().toList());
+        assertThrowsExactly(ConcurrentModificationException.class, iterator::next);
     }
 
     @Test
-    void getLastShouldThrow() {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
-
-        assertThrowsExactly(NoSuchElementException.class, list::getLast);
+    void sortKeepsAllElementsWhenComparatorThrows() {
+        CustomLinkedListImpl<Integer> list = new CustomLinkedListImpl<>();
+        List.of(5, 3, 9, 1, 7, 2).forEach(list::addLast);
+        int[] comparisons = {0};
+
+        assertThrowsExactly(IllegalStateException.class, () -> list.sort((a, b) -> {
+            if (++comparisons[0] == 4) {
+                throw new IllegalStateException("Comparator failure");
+            }
+            return Integer.compare(a, b);
+        }));
+
+        assertEquals(List.of(1, 2, 3, 5, 7, 9), list.stream().sorted().toList());
+        assertEquals(6, list.size());
+        assertEquals(list.stream().toList().get(5), list.getLast());
     }
 
     @Test
-    void removeFirstPositive() {
-        String expectedResult = "El_1";
-        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of(expectedResult, "El_2"));
-        int initSize = list.size();
-
-        String actualResult = list.removeFirst();
-
-        assertEquals(expectedResult, actualResult);
-        assertEquals(initSize - 1, list.size());
+    void spliteratorFailsFastBeforeReadingUnlinkedNodes() {
+        CustomLinkedListImpl<String> list = new CustomLinkedListImpl<>(8);
+        for (int i = 0; i < 6; i++) {
+            list.addLast("EL_" + i);
+        }
+        List<String> seen = new ArrayList<>();
+
+        assertThrowsExactly(ConcurrentModificationException.class, () -> list.spliterator().forEachRemaining(e -> {
+            seen.add(e);
+            list.removeLast();
+            list.removeLast();
+        }));
+        assertEquals(List.of("EL_0"), seen);
+
+        Spliterator<String> spliterator = list.spliterator();
+        while (list.size() > 0) {
+            list.removeFirst();
+        }
+        assertThrowsExactly(ConcurrentModificationException.class, () -> spliterator.tryAdvance(seen::add));
+        assertThrowsExactly(ConcurrentModificationException.class, spliterator::trySplit);
+        assertEquals(List.of("EL_0"), seen);
     }
 
     @Test
-    void removeFirstShouldThrow() {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
-
-        assertThrowsExactly(NoSuchElementException.class, list::removeFirst);
+    void handlesRemoveAndMoveElementsWithoutIndexes() {
+        CustomLinkedListImpl<String> list = new CustomLinkedListImpl<>(4);
+        CustomLinkedListImpl.Handle<String> second = list.addLastHandle("EL_2");
+        CustomLinkedListImpl.Handle<String> first = list.addFirstHandle("EL_1");
+        CustomLinkedListImpl.Handle<String> third = list.addLastHandle("EL_3");
+        assertEquals("EL_2", list.get(1));
+
+        list.moveToFront(third);
+        assertEquals(List.of("EL_3", "EL_1", "EL_2"), list.stream().toList());
+        assertEquals("EL_2", list.getLast());
+
+        assertEquals("EL_1", list.remove(first));
+        list.moveToFront(second);
+        assertEquals(List.of("EL_2", "EL_3"), list.stream().toList());
+        assertEquals("EL_3", list.get(1));
+        assertEquals("EL_3", list.getLast());
+        assertEquals("EL_2", second.element());
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(first));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.moveToFront(first));
+        assertEquals(2, list.size());
     }
 
     @Test
-    void removeLastPositive() {
-        String expectedResult = "El_2";
-        CustomList<String> list = getPrepopulatedCustomLinkedList(List.of("El_1", expectedResult));
-        int initSize = list.size();
-
-        String actualResult = list.removeLast();
-
-        assertEquals(expectedResult, actualResult);
-        assertEquals(initSize - 1, list.size());
+    void handlesFollowTheirElementsAcrossLists() {
+        CustomLinkedListImpl<String> list = new CustomLinkedListImpl<>();
+        CustomLinkedListImpl<String> other = new CustomLinkedListImpl<>();
+        CustomLinkedListImpl.Handle<String> first = list.addLastHandle("EL_1");
+        CustomLinkedListImpl.Handle<String> second = list.addLastHandle("EL_2");
+        CustomLinkedListImpl.Handle<String> third = list.addLastHandle("EL_3");
+        CustomLinkedListImpl.Handle<String> foreign = other.addLastHandle("EL_4");
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(foreign));
+        assertThrowsExactly(IllegalArgumentException.class, () -> other.moveToFront(first));
+
+        CustomLinkedListImpl<String> tail = list.split(2);
+        CustomLinkedListImpl<String> longTail = list.split(0);
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(first));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(third));
+        assertThrowsExactly(IllegalArgumentException.class, () -> longTail.remove(third));
+        assertEquals("EL_3", tail.remove(third));
+
+        other.splice(longTail);
+        assertThrowsExactly(IllegalArgumentException.class, () -> longTail.remove(second));
+        other.moveToFront(second);
+        assertEquals(List.of("EL_2", "EL_4", "EL_1"), other.stream().toList());
+        assertEquals("EL_1", other.remove(first));
+        assertEquals(List.of("EL_2", "EL_4"), other.stream().toList());
     }
 
     @Test
-    void removeLastShouldThrow() {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(Collections.emptyList());
-
-        assertThrowsExactly(NoSuchElementException.class, list::removeLast);
+    void staleHandlesAreRejectedWhenNodesArePooled() {
+        CustomLinkedListImpl<String> list = new CustomLinkedListImpl<>(4);
+        CustomLinkedListImpl.Handle<String> stale = list.addLastHandle("EL_1");
+        list.remove(stale);
+        list.addLast("EL_2");
+        list.addLastHandle("EL_3");
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(stale));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.moveToFront(stale));
+        assertEquals(List.of("EL_2", "EL_3"), list.stream().toList());
     }
 
-    @ParameterizedTest
-    @MethodSource("checkRemoveByIndex")
-    void removeByIndexPositive(List<String> initList, int index, String expectedElement, int expectedSize) {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+    @Test
+    void moveToFrontFailsOpenIterators() {
+        CustomLinkedListImpl<String> list = new CustomLinkedListImpl<>();
+        list.addLast("EL_1");
+        CustomLinkedListImpl.Handle<String> last = list.addLastHandle("EL_2");
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
 
-        String removed = list.remove(index);
+        list.moveToFront(last);
 
-        assertEquals(expectedSize, list.size());
-        assertEquals(expectedElement, removed);
+        assertThrowsExactly(ConcurrentModificationException.class, iterator::next);
     }
 
-    @ParameterizedTest
-    @MethodSource("checkRemoveByIndexThrows")
-    void removeByIndexShouldThrow(List<String> initList, int index) {
-        CustomList<String> list = getPrepopulatedCustomLinkedList(initList);
+    @Nested
+    class Pooled extends AbstractCustomListTest {
 
-        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(index));
+        @Override
+        protected <T> CustomList<T> createList() {
+            return new CustomLinkedListImpl<>(4);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedSkipListImplTest extends AbstractCustomListTest {
+
+    private static final int SMALL_SIZE = 1_000;
+    private static final int LARGE_SIZE = 1_000_000;
+    private static final int MIDDLE_OPERATIONS = 1_000;
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new IndexedSkipListImpl<>();
+    }
+
+    @Test
+    void randomOperationsMatchArrayList() {
+        CustomList<Integer> list = createList();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(6);
+            if (expected.isEmpty() || op < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 2) {
+                list.addFirst(i);
+                expected.add(0, i);
+            } else if (op == 3) {
+                list.addLast(i);
+                expected.add(i);
+            } else if (op == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        assertEquals(expected.get(expected.size() - 1), list.getLast());
+        assertEquals(expected, list.stream().toList());
+    }
+
+    @Test
+    void middleOperationsWalkLogarithmicallyManyLinks() {
+        double smallWalk = averageMiddleWalk(SMALL_SIZE);
+        double largeWalk = averageMiddleWalk(LARGE_SIZE);
+
+        assertTrue(smallWalk <= 4 * log2(SMALL_SIZE), "Average walk at " + SMALL_SIZE + ": " + smallWalk);
+        assertTrue(largeWalk <= 4 * log2(LARGE_SIZE), "Average walk at " + LARGE_SIZE + ": " + largeWalk);
+        assertTrue(largeWalk < 4 * smallWalk, "Average walks: " + smallWalk + " and " + largeWalk);
+    }
+
+    private static double averageMiddleWalk(int size) {
+        IndexedSkipListImpl<Integer> list = new IndexedSkipListImpl<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+
+        Random random = new Random(7);
+        long walkedBefore = list.walkedLinks();
+        for (int i = 0; i < MIDDLE_OPERATIONS; i++) {
+            int index = size / 4 + random.nextInt(size / 2);
+            list.add(index, -i);
+            assertEquals(-i, list.get(index));
+            assertEquals(-i, list.remove(index));
+        }
+        assertEquals(size, list.size());
+        return (double) (list.walkedLinks() - walkedBefore) / (3 * MIDDLE_OPERATIONS);
+    }
+
+    private static double log2(int size) {
+        return Math.log(size) / Math.log(2);
+    }
+}
@@ -0,0 +1,76 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PersistentListImplTest extends AbstractCustomListTest {
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new PersistentListImpl<>();
+    }
+
+    @Test
+    void snapshotIsNotAffectedByLaterModifications() {
+        PersistentListImpl<String> list = new PersistentListImpl<>();
+        list.addLast("EL_1");
+        list.addLast("EL_2");
+
+        PersistentListImpl<String> snapshot = list.snapshot();
+        list.add(1, "New_Elem");
+        list.removeFirst();
+        snapshot.addLast("EL_3");
+
+        assertEquals(List.of("New_Elem", "EL_2"), list.stream().toList());
+        assertEquals(List.of("EL_1", "EL_2", "EL_3"), snapshot.stream().toList());
+    }
+
+    @Test
+    void snapshotReadByAnotherThreadWhileWriterContinues() throws Exception {
+        PersistentListImpl<Integer> list = new PersistentListImpl<>();
+        IntStream.range(0, 100_000).forEach(list::addLast);
+
+        PersistentListImpl<Integer> snapshot = list.snapshot();
+        CompletableFuture<Long> reader = CompletableFuture.supplyAsync(
+                () -> snapshot.stream().mapToLong(Integer::longValue).sum());
+        for (int i = 0; i < 10_000; i++) {
+            list.removeFirst();
+            list.addLast(-i);
+        }
+
+        assertEquals(100_000L * 99_999 / 2, reader.get());
+        assertEquals(100_000, list.size());
+        assertEquals(-9_999, list.getLast());
+    }
+
+    @Test
+    void randomOperationsMatchArrayList() {
+        CustomList<Integer> list = createList();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(5);
+
+        for (int i = 0; i < 10_000; i++) {
+            int op = random.nextInt(5);
+            if (expected.isEmpty() || op < 2) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), list.get(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(expected, list.stream().toList());
+    }
+}
@@ -0,0 +1,74 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StampedLockListImplTest extends AbstractCustomListTest {
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new StampedLockListImpl<>();
+    }
+
+    @Test
+    @Override
+    void iteratorShouldFailFastOnModification() {
+        CustomList<String> list = createList();
+        list.addAll(List.of("EL_1", "EL_2"));
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+
+        list.addLast("EL_3");
+
+        assertEquals("EL_2", iterator.next());
+        assertThrowsExactly(ConcurrentModificationException.class, iterator::remove);
+        assertEquals(List.of("EL_1", "EL_2", "EL_3"), list.stream().toList());
+    }
+
+    @Test
+    void readersSeeConsistentStateWhileWriterMutates() throws Exception {
+        CustomList<Integer> list = createList();
+        int size = 1_000;
+        IntStream.range(0, size).forEach(list::addLast);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        List<CompletableFuture<Void>> readers = IntStream.range(0, 4)
+                                                         .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                                                             while (writing.get()) {
+                                                                 int currentSize = list.size();
+                                                                 assertTrue(currentSize == size
+                                                                                    || currentSize == size + 1);
+                                                                 assertNotNull(list.get(size / 2));
+                                                                 assertTrue(list.getFirst() < list.getLast());
+                                                                 List<Integer> snapshot = list.stream().toList();
+                                                                 for (int j = 1; j < snapshot.size(); j++) {
+                                                                     assertEquals(snapshot.get(j - 1) + 1,
+                                                                                  snapshot.get(j));
+                                                                 }
+                                                             }
+                                                         }))
+                                                         .toList();
+        for (int i = size; i < 200_000; i++) {
+            list.addLast(i);
+            list.removeFirst();
+        }
+        writing.set(false);
+
+        for (CompletableFuture<Void> reader : readers) {
+            reader.get();
+        }
+        assertEquals(199_000, list.getFirst());
+        assertEquals(size, list.size());
+    }
+}
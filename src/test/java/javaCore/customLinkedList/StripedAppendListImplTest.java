@@ -0,0 +1,93 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class StripedAppendListImplTest {
+
+    @Test
+    void singleWriterKeepsAppendOrder() {
+        StripedAppendListImpl<Integer> list = new StripedAppendListImpl<>(4);
+        IntStream.range(0, 1_000).forEach(list::addLast);
+
+        assertEquals(1_000, list.size());
+        assertEquals(0, list.getFirst());
+        assertEquals(999, list.getLast());
+        assertEquals(500, list.get(500));
+        assertEquals(IntStream.range(0, 1_000).boxed().toList(), list.stream().toList());
+        assertEquals(IntStream.range(0, 1_000).boxed().toList(), list.snapshot(true).stream().toList());
+    }
+
+    @Test
+    void concurrentWritersAreMergedInAppendOrder() throws Exception {
+        StripedAppendListImpl<long[]> list = new StripedAppendListImpl<>(8);
+        int writers = 8;
+        int perWriter = 50_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perWriter; i++) {
+                    list.addLast(new long[]{writer, i});
+                }
+            }));
+        }
+        start.countDown();
+        for (CompletableFuture<Void> future : futures) {
+            future.get();
+        }
+
+        assertEquals(writers * perWriter, list.size());
+        long[] expectedNext = new long[writers];
+        list.forEach(e -> assertEquals(expectedNext[(int) e[0]]++, e[1]));
+        assertEquals(writers * perWriter, list.snapshot(false).size());
+
+        long[] unorderedCounts = new long[writers];
+        list.unorderedIterator().forEachRemaining(e -> unorderedCounts[(int) e[0]]++);
+        for (long count : unorderedCounts) {
+            assertEquals(perWriter, count);
+        }
+    }
+
+    @Test
+    void iteratorIsNotAffectedByLaterAppends() {
+        StripedAppendListImpl<String> list = new StripedAppendListImpl<>(2);
+        list.addLast("EL_1");
+        Iterator<String> iterator = list.iterator();
+        list.addLast("EL_2");
+
+        assertEquals("EL_1", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals("[EL_1, EL_2]", list.toString());
+    }
+
+    @Test
+    void operationsShouldThrowOnEmptyListIncorrectIndexOrModification() {
+        StripedAppendListImpl<Integer> list = new StripedAppendListImpl<>();
+
+        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+        assertThrowsExactly(NoSuchElementException.class, list::getLast);
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.get(0));
+        assertThrowsExactly(IllegalArgumentException.class, () -> new StripedAppendListImpl<>(0));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> list.addFirst(1));
+        assertThrowsExactly(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+}
@@ -0,0 +1,112 @@
+package javaCore.customLinkedList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnrolledLinkedListImplTest extends AbstractCustomListTest {
+
+    @Override
+    protected <T> CustomList<T> createList() {
+        return new UnrolledLinkedListImpl<>();
+    }
+
+    @Test
+    void constructorShouldThrowWhenNodeCapacityTooSmall() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new UnrolledLinkedListImpl<>(1));
+    }
+
+    @Test
+    void removeFirstAndLastDrainAcrossNodes() {
+        CustomList<Integer> list = new UnrolledLinkedListImpl<>(4);
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+
+        assertEquals(0, list.removeFirst());
+        assertEquals(9, list.removeLast());
+        for (int i = 1; i < 9; i++) {
+            assertEquals(i, list.removeFirst());
+        }
+        assertEquals(0, list.size());
+        assertEquals("[]", list.toString());
+    }
+
+    @Test
+    void randomOperationsMatchArrayList() {
+        CustomList<Integer> list = new UnrolledLinkedListImpl<>(4);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 5_000; i++) {
+            int op = random.nextInt(6);
+            if (expected.isEmpty() || op < 3) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op == 3) {
+                list.addFirst(i);
+                expected.add(0, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    void removeIfDeletesInPlaceWithoutWalking() {
+        Random random = new Random(7);
+        for (int capacity : new int[]{2, 4, 32}) {
+            UnrolledLinkedListImpl<Integer> list = new UnrolledLinkedListImpl<>(capacity);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            }
+
+            for (int divisor : new int[]{3, 2, 5, 1}) {
+                long walkedBefore = list.walkedLinks();
+                list.removeIf(e -> e % divisor != 0 || e % 7 == 0);
+                expected.removeIf(e -> e % divisor != 0 || e % 7 == 0);
+
+                assertEquals(walkedBefore, list.walkedLinks());
+                assertEquals(expected.size(), list.size());
+                assertEquals(expected.toString(), list.toString());
+                if (!expected.isEmpty()) {
+                    assertEquals(expected.get(expected.size() - 1), list.getLast());
+                }
+            }
+        }
+    }
+
+    @Test
+    void addNearTheEndWalksFromTheTail() {
+        UnrolledLinkedListImpl<Integer> list = new UnrolledLinkedListImpl<>(4);
+        for (int i = 0; i < 1_000; i++) {
+            list.addLast(i);
+        }
+
+        long walkedBefore = list.walkedLinks();
+        list.add(list.size() - 1, -1);
+        list.add(list.size() - 6, -2);
+
+        assertTrue(list.walkedLinks() - walkedBefore <= 3, "Walked links: " + (list.walkedLinks() - walkedBefore));
+        assertEquals(-1, list.get(list.size() - 2));
+        assertEquals(-2, list.get(list.size() - 7));
+        assertEquals(999, list.getLast());
+    }
+}
@@ -0,0 +1,127 @@
+package javaCore.customLinkedList.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = LruCache.<String, Integer>builder()
+                                                  .maximumWeight(2)
+                                                  .evictionListener((k, v) -> evicted.add(k + "=" + v))
+                                                  .build();
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a"));
+
+        cache.put("c", 3);
+
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.get("a"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(List.of("b=2"), evicted);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void putReplacesValueWithoutEviction() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, Integer> cache = LruCache.<String, Integer>builder()
+                                                  .maximumWeight(2)
+                                                  .evictionListener((k, v) -> evicted.add(k))
+                                                  .build();
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        assertEquals(1, cache.put("a", 10));
+        cache.put("c", 3);
+
+        assertEquals(10, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(List.of("b"), evicted);
+    }
+
+    @Test
+    void weigherBoundsTotalWeight() {
+        LruCache<String, String> cache = LruCache.<String, String>builder()
+                                                 .maximumWeight(10)
+                                                 .weigher((k, v) -> v.length())
+                                                 .build();
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(9, cache.weight());
+
+        cache.put("c", "123");
+
+        assertNull(cache.get("a"));
+        assertEquals(7, cache.weight());
+        assertEquals("1234", cache.remove("b"));
+        assertEquals(3, cache.weight());
+        assertThrowsExactly(IllegalArgumentException.class, () -> cache.put("d", "12345678901"));
+    }
+
+    @Test
+    void loaderRunsOnlyOnMiss() {
+        LruCache<Integer, String> cache = LruCache.ofCapacity(4);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("1", cache.get(1, k -> {
+            loads.incrementAndGet();
+            return String.valueOf(k);
+        }));
+        assertEquals("1", cache.get(1, k -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        assertNull(cache.get(2, k -> null));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldRejectIncorrectArguments() {
+        LruCache<String, String> cache = LruCache.ofCapacity(1);
+
+        assertThrowsExactly(NullPointerException.class, () -> cache.put(null, "a"));
+        assertThrowsExactly(NullPointerException.class, () -> cache.put("a", null));
+        assertThrowsExactly(IllegalArgumentException.class, () -> LruCache.ofCapacity(0));
+    }
+
+    @Test
+    void randomOperationsMatchAccessOrderedLinkedHashMap() {
+        int capacity = 16;
+        Map<Integer, Integer> expected = new LinkedHashMap<>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+        LruCache<Integer, Integer> cache = LruCache.ofCapacity(capacity);
+        Random random = new Random(21);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = random.nextInt(40);
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.get(key), cache.get(key));
+                case 1 -> assertEquals(expected.put(key, i), cache.put(key, i));
+                default -> assertEquals(expected.remove(key), cache.remove(key));
+            }
+            assertEquals(expected.size(), cache.size());
+        }
+        assertTrue(cache.size() <= capacity);
+    }
+}
@@ -0,0 +1,145 @@
+package javaCore.customLinkedList.instrumented;
+
+import javaCore.customLinkedList.CircularArrayListImpl;
+import javaCore.customLinkedList.CustomLinkedListImpl;
+import javaCore.customLinkedList.CustomList;
+import javaCore.customLinkedList.offheap.OffHeapListImpl;
+import javaCore.customLinkedList.offheap.RecordCodec;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InstrumentedListImplTest {
+
+    @Test
+    void delegatesAndCountsOperations() {
+        InstrumentedListImpl<String> list = new InstrumentedListImpl<>("counts", new CustomLinkedListImpl<>());
+        list.addLast("EL_2");
+        list.addFirst("EL_1");
+        list.add(2, "EL_3");
+        list.removeLast();
+
+        assertEquals(List.of("EL_1", "EL_2"), list.stream().toList());
+        assertEquals("EL_2", list.get(1));
+        assertTrue(list.contains("EL_1"));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.get(5));
+
+        ListStats stats = list.stats();
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.operationCounts().get(ListOperation.ADD_FIRST));
+        assertEquals(1, stats.operationCounts().get(ListOperation.ADD_AT));
+        assertEquals(1, stats.operationCounts().get(ListOperation.REMOVE_LAST));
+        assertEquals(1, stats.operationCounts().get(ListOperation.GET_AT));
+        assertEquals(1, stats.operationCounts().get(ListOperation.INDEX_OF));
+        assertEquals(2, stats.walks());
+        assertEquals(64 + 2 * 32, stats.estimatedRetainedBytes());
+    }
+
+    @Test
+    void walkPercentilesAndLongWalkCallSites() {
+        InstrumentedListImpl<Integer> list = new InstrumentedListImpl<>("walks", new CustomLinkedListImpl<>(), 100);
+        IntStream.range(0, 1_000).forEach(list::addLast);
+
+        for (int i = 0; i < 99; i++) {
+            list.get(i % 4);
+        }
+        list.get(500);
+
+        ListStats stats = list.stats();
+        assertEquals(100, stats.walks());
+        assertEquals(1, stats.walkLengthP50());
+        assertEquals(1, stats.walkLengthP90());
+        assertEquals(1, stats.walkLengthP99());
+        assertEquals(498, stats.maxWalkLength());
+        assertEquals(1, stats.longWalkCallSites().size());
+        assertTrue(stats.longWalkCallSites().keySet().iterator().next().contains("InstrumentedListImplTest"));
+
+        list.resetStats();
+        assertEquals(0, list.stats().walks());
+        assertTrue(list.stats().longWalkCallSites().isEmpty());
+    }
+
+    @Test
+    void walksAreReportedByTheDelegate() {
+        InstrumentedListImpl<Integer> linked = new InstrumentedListImpl<>("cursor", new CustomLinkedListImpl<>(), 100);
+        InstrumentedListImpl<Integer> ring = new InstrumentedListImpl<>("ring", new CircularArrayListImpl<>(), 100);
+        IntStream.range(0, 1_000).forEach(i -> {
+            linked.addLast(i);
+            ring.addLast(i);
+        });
+
+        for (int i = 0; i < 1_000; i++) {
+            linked.get(i);
+            ring.get(i);
+        }
+
+        assertEquals(1_000, linked.stats().walks());
+        assertEquals(1, linked.stats().maxWalkLength());
+        assertTrue(linked.stats().longWalkCallSites().isEmpty());
+        assertEquals(0, ring.stats().walks());
+        assertTrue(ring.stats().longWalkCallSites().isEmpty());
+    }
+
+    @Test
+    void retainedBytesAreEstimatedByTheDelegate() {
+        InstrumentedListImpl<Integer> ring = new InstrumentedListImpl<>("ring", new CircularArrayListImpl<>(1_000));
+        CustomLinkedListImpl<Integer> pooled = new CustomLinkedListImpl<>(16);
+        IntStream.range(0, 10).forEach(pooled::addLast);
+        IntStream.range(0, 10).forEach(i -> pooled.removeFirst());
+        InstrumentedListImpl<Integer> linked = new InstrumentedListImpl<>("pooled", pooled);
+        assertEquals(24 + 24 + 16 + 4 * 1_024, ring.stats().estimatedRetainedBytes());
+        assertEquals(64 + 10 * 32, linked.stats().estimatedRetainedBytes());
+        try (OffHeapListImpl<Integer> offHeap = new OffHeapListImpl<>(RecordCodec.ofInt())) {
+            assertEquals(-1, new InstrumentedListImpl<>("off-heap", offHeap).stats().estimatedRetainedBytes());
+        }
+    }
+
+    @Test
+    void allocationsAreMeasuredPerOperation() {
+        InstrumentedListImpl<Integer> list = new InstrumentedListImpl<>("allocations", new CustomLinkedListImpl<>());
+        Integer element = 1_000;
+        for (int i = 0; i < 1_000; i++) {
+            list.addLast(element);
+        }
+
+        ListStats stats = list.stats();
+        assertTrue(stats.allocatingOperations() >= 900, "Allocating operations: " + stats.allocatingOperations());
+        assertTrue(stats.allocatedBytes() >= 1_000L * 16, "Allocated bytes: " + stats.allocatedBytes());
+    }
+
+    @Test
+    void statsAreExposedOverJmx() throws Exception {
+        CustomList<Integer> delegate = new CustomLinkedListImpl<>();
+        InstrumentedListImpl<Integer> list = new InstrumentedListImpl<>("jmx", delegate);
+        list.addLast(1);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName name = list.registerMBean();
+        try {
+            assertEquals(1, server.getAttribute(name, "Size"));
+            assertEquals(0L, server.getAttribute(name, "Walks"));
+
+            list.addLast(2);
+            list.addLast(3);
+            list.get(2);
+            ListStats stats = list.stats();
+            assertEquals(stats.walks(), server.getAttribute(name, "Walks"));
+            assertEquals(stats.maxWalkLength(), server.getAttribute(name, "MaxWalkLength"));
+            assertEquals(stats.walkLengthP99(), server.getAttribute(name, "WalkLengthP99"));
+            assertEquals(stats.averageWalkLength(), server.getAttribute(name, "AverageWalkLength"));
+            assertEquals(stats.estimatedRetainedBytes(), server.getAttribute(name, "EstimatedRetainedBytes"));
+        } finally {
+            list.unregisterMBean();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
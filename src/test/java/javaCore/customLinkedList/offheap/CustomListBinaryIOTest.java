@@ -0,0 +1,183 @@
+package javaCore.customLinkedList.offheap;
+
+import javaCore.customLinkedList.CustomLinkedListImpl;
+import javaCore.customLinkedList.CustomList;
+import javaCore.customLinkedList.UnrolledLinkedListImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomListBinaryIOTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripThroughByteBuffer() {
+        CustomList<String> list = new CustomLinkedListImpl<>();
+        list.addAll(List.of("EL_1", "", "Элемент_3"));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        int written = CustomListBinaryIO.write(list, Serializer.ofUtf8(), buffer);
+        CustomList<String> copy = CustomListBinaryIO.read(buffer.flip(), Serializer.ofUtf8(),
+                                                          new UnrolledLinkedListImpl<>());
+
+        assertEquals(8 + 3 * 4 + 4 + 0 + 16, written);
+        assertEquals(List.of("EL_1", "", "Элемент_3"), copy.stream().toList());
+        assertEquals(0, buffer.remaining());
+    }
+
+    @Test
+    void roundTripThroughFileChannelWithLargeElements() throws IOException {
+        CustomList<String> list = new CustomLinkedListImpl<>();
+        IntStream.range(0, 10_000).forEach(i -> list.addLast("El_" + i));
+        list.add(5_000, "x".repeat(300_000));
+        Path file = directory.resolve("list.bin");
+
+        long written;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            written = CustomListBinaryIO.write(list, Serializer.ofUtf8(), channel);
+        }
+        CustomList<String> copy;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertEquals(written, channel.size());
+            copy = CustomListBinaryIO.read(channel, Serializer.ofUtf8(), new CustomLinkedListImpl<>());
+        }
+
+        assertEquals(list.stream().toList(), copy.stream().toList());
+    }
+
+    @Test
+    void listsFollowedByOtherDataAreReadBackToBack() throws IOException {
+        CustomList<String> first = new CustomLinkedListImpl<>();
+        IntStream.range(0, 5_000).forEach(i -> first.addLast("First_" + i));
+        CustomList<Integer> second = new CustomLinkedListImpl<>();
+        second.addAll(List.of(1, 2, 3));
+        Path file = directory.resolve("lists.bin");
+
+        long firstBytes;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            firstBytes = CustomListBinaryIO.write(first, Serializer.ofUtf8(), channel);
+            CustomListBinaryIO.write(second, Serializer.ofInt(), channel);
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(42).flip());
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            CustomList<String> firstCopy = CustomListBinaryIO.read(channel, Serializer.ofUtf8(),
+                                                                   new CustomLinkedListImpl<>());
+            assertEquals(firstBytes, channel.position());
+            CustomList<Integer> secondCopy = CustomListBinaryIO.read(channel, Serializer.ofInt(),
+                                                                     new CustomLinkedListImpl<>());
+            ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES);
+            channel.read(trailer);
+
+            assertEquals(first.stream().toList(), firstCopy.stream().toList());
+            assertEquals(List.of(1, 2, 3), secondCopy.stream().toList());
+            assertEquals(42, trailer.flip().getLong());
+        }
+    }
+
+    @Test
+    void batchesFilledOnARecordBoundaryAreFlushed() throws IOException {
+        for (int size : new int[]{8_191, 8_192, 8_193, 20_000}) {
+            CustomList<Integer> list = new CustomLinkedListImpl<>();
+            IntStream.range(0, size).forEach(list::addLast);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            long written = CustomListBinaryIO.write(list, Serializer.ofInt(), Channels.newChannel(out));
+            CustomList<Integer> copy = CustomListBinaryIO.read(ByteBuffer.wrap(out.toByteArray()), Serializer.ofInt(),
+                                                               new CustomLinkedListImpl<>());
+
+            assertEquals(8 + 8L * size, written);
+            assertEquals(list.stream().toList(), copy.stream().toList());
+        }
+    }
+
+    @Test
+    void bufferFilledOnARecordBoundaryOverflows() {
+        CustomList<Integer> list = new CustomLinkedListImpl<>();
+        IntStream.range(0, 8_192).forEach(list::addLast);
+        ByteBuffer exact = ByteBuffer.allocate(8 + 8 * 8_192);
+
+        assertEquals(exact.capacity(), CustomListBinaryIO.write(list, Serializer.ofInt(), exact));
+        list.addLast(8_192);
+        assertThrowsExactly(BufferOverflowException.class,
+                            () -> CustomListBinaryIO.write(list, Serializer.ofInt(), exact.clear()));
+    }
+
+    @Test
+    void channelIsReadInFullBuffers() throws IOException {
+        CustomList<Integer> list = new CustomLinkedListImpl<>();
+        IntStream.range(0, 8_000).forEach(list::addLast);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 8 * 8_000);
+        CustomListBinaryIO.write(list, Serializer.ofInt(), buffer);
+        ReadableByteChannel source = Channels.newChannel(new ByteArrayInputStream(buffer.array()));
+        AtomicInteger reads = new AtomicInteger();
+        ReadableByteChannel counting = new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+                reads.incrementAndGet();
+                return source.read(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+                return source.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+                source.close();
+            }
+        };
+
+        CustomList<Integer> copy = CustomListBinaryIO.read(counting, Serializer.ofInt(), new CustomLinkedListImpl<>());
+
+        assertEquals(list.stream().toList(), copy.stream().toList());
+        assertTrue(reads.get() < 100, "Reads: " + reads.get());
+    }
+
+    @Test
+    void readShouldThrowOnForeignOrTruncatedData() {
+        ByteBuffer foreign = ByteBuffer.allocate(8).putInt(0, 42);
+        assertThrowsExactly(IllegalArgumentException.class,
+                            () -> CustomListBinaryIO.read(foreign, Serializer.ofInt(), new CustomLinkedListImpl<>()));
+
+        CustomList<Integer> list = new CustomLinkedListImpl<>();
+        list.addAll(List.of(1, 2, 3));
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        int written = CustomListBinaryIO.write(list, Serializer.ofInt(), buffer);
+        byte[] truncated = new byte[written - 1];
+        buffer.get(0, truncated);
+
+        assertThrowsExactly(EOFException.class,
+                            () -> CustomListBinaryIO.read(Channels.newChannel(new ByteArrayInputStream(truncated)),
+                                                          Serializer.ofInt(), new CustomLinkedListImpl<>()));
+    }
+
+    @Test
+    void writeShouldThrowWhenBufferTooSmall() {
+        CustomList<Long> list = new CustomLinkedListImpl<>();
+        list.addAll(List.of(1L, 2L));
+
+        assertThrowsExactly(BufferOverflowException.class,
+                            () -> CustomListBinaryIO.write(list, Serializer.ofLong(), ByteBuffer.allocate(16)));
+    }
+}
@@ -0,0 +1,134 @@
+package javaCore.customLinkedList.offheap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class MappedFileListImplTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void appendAndReadPositive() {
+        try (MappedFileListImpl<String> list = new MappedFileListImpl<>(directory, Serializer.ofUtf8())) {
+            list.addLast("EL_1");
+            list.addLast("");
+            list.addLast("Элемент_3");
+
+            assertEquals(3, list.size());
+            assertEquals("EL_1", list.getFirst());
+            assertEquals("", list.get(1));
+            assertEquals("Элемент_3", list.getLast());
+            assertEquals("[EL_1, , Элемент_3]", list.toString());
+        }
+    }
+
+    @Test
+    void operationsShouldThrowOnEmptyListIncorrectIndexOrModification() {
+        try (MappedFileListImpl<Integer> list = new MappedFileListImpl<>(directory, Serializer.ofInt())) {
+            assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+            assertThrowsExactly(NoSuchElementException.class, list::getLast);
+            assertThrowsExactly(IllegalArgumentException.class, () -> list.get(0));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> list.addFirst(1));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> list.add(0, 1));
+            assertThrowsExactly(UnsupportedOperationException.class, list::removeLast);
+        }
+    }
+
+    @Test
+    void recordsDoNotSpanSegments() {
+        try (MappedFileListImpl<String> list = new MappedFileListImpl<>(directory, Serializer.ofUtf8(), 64)) {
+            List<String> expected = IntStream.range(0, 100)
+                                             .mapToObj(i -> "El_".repeat(i % 15) + i)
+                                             .toList();
+            expected.forEach(list::addLast);
+
+            assertEquals(expected, list.stream().toList());
+            assertThrowsExactly(IllegalArgumentException.class, () -> list.addLast("x".repeat(61)));
+            assertEquals(100, list.size());
+        }
+    }
+
+    @Test
+    void reopenRecoversAppendedElements() {
+        try (MappedFileListImpl<Long> list = new MappedFileListImpl<>(directory, Serializer.ofLong(), 64)) {
+            IntStream.range(0, 1_000).forEach(i -> list.addLast((long) i));
+            list.flush();
+        }
+
+        try (MappedFileListImpl<Long> list = new MappedFileListImpl<>(directory, Serializer.ofLong(), 64)) {
+            assertEquals(1_000, list.size());
+            assertEquals(999L, list.getLast());
+            list.addLast(1_000L);
+            assertEquals(500L, list.get(500));
+            assertEquals(1_000L, list.getLast());
+        }
+    }
+
+    @Test
+    void reopenWithDifferentSegmentSizeShouldThrow() {
+        try (MappedFileListImpl<Long> list = new MappedFileListImpl<>(directory, Serializer.ofLong(), 64)) {
+            IntStream.range(0, 100).forEach(i -> list.addLast((long) i));
+        }
+
+        assertThrowsExactly(IllegalArgumentException.class,
+                            () -> new MappedFileListImpl<>(directory, Serializer.ofLong(), 128));
+
+        try (MappedFileListImpl<Long> list = new MappedFileListImpl<>(directory, Serializer.ofLong(), 64)) {
+            assertEquals(100, list.size());
+            assertEquals(99L, list.getLast());
+        }
+    }
+
+    @Test
+    void foreignIndexFileShouldThrow() throws IOException {
+        try (MappedFileListImpl<Integer> list = new MappedFileListImpl<>(directory, Serializer.ofInt())) {
+            list.addLast(1);
+        }
+        try (FileChannel index = FileChannel.open(directory.resolve(MappedFileListImpl.INDEX_FILE),
+                                                  StandardOpenOption.WRITE)) {
+            index.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 0xCAFEBABE), 0);
+        }
+
+        assertThrowsExactly(IllegalStateException.class, () -> new MappedFileListImpl<>(directory, Serializer.ofInt()));
+    }
+
+    @Test
+    void reopenDropsElementsWhoseOffsetsWereNotWritten() throws IOException {
+        try (MappedFileListImpl<Integer> list = new MappedFileListImpl<>(directory, Serializer.ofInt())) {
+            IntStream.range(0, 3).forEach(list::addLast);
+        }
+        try (FileChannel index = FileChannel.open(directory.resolve(MappedFileListImpl.INDEX_FILE),
+                                                  StandardOpenOption.WRITE)) {
+            index.write(ByteBuffer.allocate(Long.BYTES).putLong(0, 5), MappedFileListImpl.COUNT_OFFSET);
+        }
+
+        try (MappedFileListImpl<Integer> list = new MappedFileListImpl<>(directory, Serializer.ofInt())) {
+            assertEquals(3, list.size());
+            list.addLast(3);
+            assertEquals(List.of(0, 1, 2, 3), list.stream().toList());
+        }
+    }
+
+    @Test
+    void closedListShouldThrow() {
+        MappedFileListImpl<Integer> list = new MappedFileListImpl<>(directory, Serializer.ofInt());
+        list.addLast(1);
+        list.close();
+
+        assertThrowsExactly(IllegalStateException.class, list::size);
+        assertThrowsExactly(IllegalStateException.class, () -> list.addLast(2));
+    }
+}
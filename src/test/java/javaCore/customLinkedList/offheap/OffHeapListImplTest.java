@@ -0,0 +1,176 @@
+package javaCore.customLinkedList.offheap;
+
+import javaCore.customLinkedList.CustomList;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class OffHeapListImplTest {
+
+    @Test
+    void dequeOperationsPositive() {
+        try (OffHeapListImpl<Long> list = new OffHeapListImpl<>(RecordCodec.ofLong(), 2)) {
+            list.addLast(2L);
+            list.addFirst(1L);
+            list.addLast(3L);
+
+            assertEquals(3, list.size());
+            assertEquals(1L, list.getFirst());
+            assertEquals(3L, list.getLast());
+            assertEquals(1L, list.removeFirst());
+            assertEquals(3L, list.removeLast());
+            assertEquals("[2]", list.toString());
+        }
+    }
+
+    @Test
+    void failingCodecLeavesListUnchangedOnAddFirst() {
+        try (OffHeapListImpl<Integer> list = new OffHeapListImpl<>(RecordCodec.ofInt(), 4)) {
+            list.addLast(1);
+            list.addLast(2);
+            list.addLast(3);
+
+            assertThrowsExactly(NullPointerException.class, () -> list.addFirst(null));
+
+            assertEquals(3, list.size());
+            assertEquals("[1, 2, 3]", list.toString());
+        }
+    }
+
+    @Test
+    void failingCodecLeavesListUnchangedOnAddByIndex() {
+        try (OffHeapListImpl<Integer> list = new OffHeapListImpl<>(RecordCodec.ofInt(), 4)) {
+            list.addLast(1);
+            list.addLast(2);
+            list.addLast(3);
+
+            assertThrowsExactly(NullPointerException.class, () -> list.add(1, null));
+            assertThrowsExactly(NullPointerException.class, () -> list.add(2, null));
+
+            assertEquals(3, list.size());
+            assertEquals("[1, 2, 3]", list.toString());
+        }
+    }
+
+    @Test
+    void operationsShouldThrowOnEmptyListOrIncorrectIndex() {
+        try (OffHeapListImpl<Integer> list = new OffHeapListImpl<>(RecordCodec.ofInt())) {
+            assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+            assertThrowsExactly(NoSuchElementException.class, list::removeLast);
+            assertThrowsExactly(IllegalArgumentException.class, () -> list.get(0));
+            assertThrowsExactly(IllegalArgumentException.class, () -> list.add(1, 1));
+        }
+    }
+
+    @Test
+    void randomOperationsMatchArrayList() {
+        try (OffHeapListImpl<Double> list = new OffHeapListImpl<>(RecordCodec.ofDouble(), 4)) {
+            List<Double> expected = new ArrayList<>();
+            Random random = new Random(3);
+
+            for (int i = 0; i < 5_000; i++) {
+                double value = i / 2.0;
+                int op = random.nextInt(5);
+                if (expected.isEmpty() || op == 0) {
+                    int index = random.nextInt(expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                } else if (op == 1) {
+                    list.addFirst(value);
+                    expected.add(0, value);
+                } else if (op == 2) {
+                    list.addLast(value);
+                    expected.add(value);
+                } else {
+                    int index = random.nextInt(expected.size());
+                    assertEquals(expected.remove(index), list.remove(index));
+                }
+            }
+
+            assertEquals(expected, list.stream().toList());
+        }
+    }
+
+    @Test
+    void customCodecStoresFixedWidthRecords() {
+        try (OffHeapListImpl<Point> list = new OffHeapListImpl<>(new PointCodec())) {
+            list.addLast(new Point(1, 2));
+            list.addLast(new Point(3, 4));
+            list.add(1, new Point(5, 6));
+
+            Iterator<Point> iterator = list.iterator();
+            iterator.next();
+            iterator.remove();
+
+            assertEquals(List.of(new Point(5, 6), new Point(3, 4)), list.stream().toList());
+        }
+    }
+
+    @Test
+    void footprintGrowsWithCapacityAndIsReleasedOnClose() {
+        OffHeapListImpl<Integer> list = new OffHeapListImpl<>(RecordCodec.ofInt(), 4);
+        assertEquals(4L * Integer.BYTES, list.offHeapBytes());
+
+        for (int i = 0; i < 5; i++) {
+            list.addLast(i);
+        }
+        assertEquals(8L * Integer.BYTES, list.offHeapBytes());
+
+        list.close();
+
+        assertEquals(0, list.offHeapBytes());
+        assertEquals(0, list.size());
+        assertThrowsExactly(IllegalStateException.class, () -> list.addLast(1));
+        assertThrowsExactly(IllegalStateException.class, list::getFirst);
+    }
+
+    @Test
+    void capacityBeyondBufferLimitShouldThrow() {
+        assertThrowsExactly(IllegalStateException.class,
+                            () -> new OffHeapListImpl<>(RecordCodec.ofInt(), Integer.MAX_VALUE));
+        assertThrowsExactly(IllegalStateException.class,
+                            () -> new OffHeapListImpl<>(RecordCodec.ofLong(), (1 << 30) + 1));
+    }
+
+    @Test
+    void listIsUsableThroughCustomListInterface() {
+        try (OffHeapListImpl<Integer> offHeapList = new OffHeapListImpl<>(RecordCodec.ofInt())) {
+            CustomList<Integer> list = offHeapList;
+            for (int i = 0; i < 1_000; i++) {
+                list.addLast(i);
+            }
+
+            assertEquals(499_500, list.parallelStream().mapToInt(Integer::intValue).sum());
+        }
+    }
+
+    private record Point(int x, int y) {
+    }
+
+    private static class PointCodec implements RecordCodec<Point> {
+
+        @Override
+        public int recordSize() {
+            return Integer.BYTES * 2;
+        }
+
+        @Override
+        public void write(ByteBuffer target, int offset, Point e) {
+            target.putInt(offset, e.x());
+            target.putInt(offset + Integer.BYTES, e.y());
+        }
+
+        @Override
+        public Point read(ByteBuffer source, int offset) {
+            return new Point(source.getInt(offset), source.getInt(offset + Integer.BYTES));
+        }
+    }
+}
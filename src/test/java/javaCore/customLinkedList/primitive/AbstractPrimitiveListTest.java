@@ -0,0 +1,190 @@
+package javaCore.customLinkedList.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+/**
+ * Contract shared by the primitive lists, driven through a {@code long} view so each list type runs
+ * the same tests. The values used are small integers, which every element type represents exactly.
+ */
+abstract class AbstractPrimitiveListTest {
+
+    protected abstract LongView createList(int initialCapacity);
+
+    /**
+     * Operations of a primitive list with its values widened to or narrowed from {@code long}.
+     */
+    protected interface LongView {
+
+        int size();
+
+        void addFirst(long e);
+
+        void addLast(long e);
+
+        void add(int index, long e);
+
+        long getFirst();
+
+        long getLast();
+
+        long get(int index);
+
+        long removeFirst();
+
+        long removeLast();
+
+        long remove(int index);
+
+        PrimitiveIterator.OfLong iterator();
+
+        LongStream stream();
+    }
+
+    @Test
+    void addFirstAndAddLastPositive() {
+        LongView list = createList(16);
+
+        list.addLast(2);
+        list.addFirst(1);
+        list.addLast(3);
+
+        assertEquals(3, list.size());
+        assertEquals(1, list.getFirst());
+        assertEquals(2, list.get(1));
+        assertEquals(3, list.getLast());
+    }
+
+    @Test
+    void removeFirstAndRemoveLastPositive() {
+        LongView list = createList(16);
+        list.addLast(1);
+        list.addLast(2);
+        list.addLast(3);
+
+        assertEquals(1, list.removeFirst());
+        assertEquals(3, list.removeLast());
+        assertEquals(2, list.removeFirst());
+        assertEquals(0, list.size());
+    }
+
+    @Test
+    void getShouldThrowWhenEmpty() {
+        LongView list = createList(16);
+
+        assertThrowsExactly(NoSuchElementException.class, list::getFirst);
+        assertThrowsExactly(NoSuchElementException.class, list::getLast);
+        assertThrowsExactly(NoSuchElementException.class, list::removeFirst);
+        assertThrowsExactly(NoSuchElementException.class, list::removeLast);
+    }
+
+    @Test
+    void positionalOperationsShouldThrowOnIncorrectIndex() {
+        LongView list = createList(16);
+        list.addLast(1);
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.get(1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.remove(-1));
+        assertThrowsExactly(IllegalArgumentException.class, () -> list.add(2, 2));
+    }
+
+    @Test
+    void randomOperationsMatchArrayList() {
+        LongView list = createList(2);
+        List<Long> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (long value = 0; value < 3_000; value++) {
+            int op = random.nextInt(5);
+            if (expected.isEmpty() || op == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, value);
+                expected.add(index, value);
+            } else if (op == 1) {
+                list.addFirst(value);
+                expected.add(0, value);
+            } else if (op == 2) {
+                list.addLast(value);
+                expected.add(value);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            }
+        }
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expected, list.stream().boxed().toList());
+    }
+
+    @Test
+    void iteratorAndStreamVisitElementsInOrder() {
+        LongView list = createList(16);
+        for (int i = 1; i <= 100; i++) {
+            list.addLast(i);
+        }
+        list.removeFirst();
+        list.addFirst(1);
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+
+        assertFalse(iterator.hasNext());
+        assertEquals(sum, list.stream().sum());
+        assertEquals(sum, list.stream().parallel().sum());
+    }
+
+    @Test
+    void iteratorShouldFailFastOnModification() {
+        LongView list = createList(16);
+        list.addLast(1);
+        list.addLast(2);
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        iterator.nextLong();
+
+        list.addLast(3);
+
+        assertThrowsExactly(ConcurrentModificationException.class, iterator::nextLong);
+    }
+
+    @Test
+    void streamBindsAtTerminalOperation() {
+        LongView list = createList(2);
+        list.addLast(1);
+        list.addLast(2);
+        LongStream stream = list.stream();
+
+        list.removeFirst();
+        list.addLast(3);
+        list.addLast(4);
+
+        assertEquals(List.of(2L, 3L, 4L), stream.boxed().toList());
+    }
+
+    @Test
+    void streamShouldFailFastOnModificationDuringTraversal() {
+        LongView list = createList(16);
+        for (int i = 0; i < 10; i++) {
+            list.addLast(i);
+        }
+
+        assertThrowsExactly(ConcurrentModificationException.class,
+                            () -> list.stream().forEach(e -> list.addFirst(e)));
+    }
+}
@@ -0,0 +1,104 @@
+package javaCore.customLinkedList.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CustomDoubleListImplTest extends AbstractPrimitiveListTest {
+
+    @Override
+    protected LongView createList(int initialCapacity) {
+        CustomDoubleList list = new CustomDoubleListImpl(initialCapacity);
+        return new LongView() {
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+
+            @Override
+            public void addFirst(long e) {
+                list.addFirst(e);
+            }
+
+            @Override
+            public void addLast(long e) {
+                list.addLast(e);
+            }
+
+            @Override
+            public void add(int index, long e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public long getFirst() {
+                return (long) list.getFirstDouble();
+            }
+
+            @Override
+            public long getLast() {
+                return (long) list.getLastDouble();
+            }
+
+            @Override
+            public long get(int index) {
+                return (long) list.getDouble(index);
+            }
+
+            @Override
+            public long removeFirst() {
+                return (long) list.removeFirstDouble();
+            }
+
+            @Override
+            public long removeLast() {
+                return (long) list.removeLastDouble();
+            }
+
+            @Override
+            public long remove(int index) {
+                return (long) list.removeDouble(index);
+            }
+
+            @Override
+            public PrimitiveIterator.OfLong iterator() {
+                PrimitiveIterator.OfDouble iterator = list.iterator();
+                return new PrimitiveIterator.OfLong() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public long nextLong() {
+                        return (long) iterator.nextDouble();
+                    }
+                };
+            }
+
+            @Override
+            public LongStream stream() {
+                return list.stream().mapToLong(e -> (long) e);
+            }
+        };
+    }
+
+    @Test
+    void fractionalAndSpecialValuesArePreserved() {
+        CustomDoubleList list = new CustomDoubleListImpl(2);
+        list.addLast(2.5);
+        list.addFirst(-0.0);
+        list.add(1, Double.NaN);
+
+        assertEquals(-0.0, list.getFirstDouble());
+        assertTrue(Double.isNaN(list.getDouble(1)));
+        assertEquals(2.5, list.removeLastDouble());
+        assertEquals(2, list.stream().count());
+    }
+}
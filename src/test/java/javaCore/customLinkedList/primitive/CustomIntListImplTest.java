@@ -0,0 +1,100 @@
+package javaCore.customLinkedList.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CustomIntListImplTest extends AbstractPrimitiveListTest {
+
+    @Override
+    protected LongView createList(int initialCapacity) {
+        CustomIntList list = new CustomIntListImpl(initialCapacity);
+        return new LongView() {
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+
+            @Override
+            public void addFirst(long e) {
+                list.addFirst((int) e);
+            }
+
+            @Override
+            public void addLast(long e) {
+                list.addLast((int) e);
+            }
+
+            @Override
+            public void add(int index, long e) {
+                list.add(index, (int) e);
+            }
+
+            @Override
+            public long getFirst() {
+                return list.getFirstInt();
+            }
+
+            @Override
+            public long getLast() {
+                return list.getLastInt();
+            }
+
+            @Override
+            public long get(int index) {
+                return list.getInt(index);
+            }
+
+            @Override
+            public long removeFirst() {
+                return list.removeFirstInt();
+            }
+
+            @Override
+            public long removeLast() {
+                return list.removeLastInt();
+            }
+
+            @Override
+            public long remove(int index) {
+                return list.removeInt(index);
+            }
+
+            @Override
+            public PrimitiveIterator.OfLong iterator() {
+                PrimitiveIterator.OfInt iterator = list.iterator();
+                return new PrimitiveIterator.OfLong() {
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public long nextLong() {
+                        return iterator.nextInt();
+                    }
+                };
+            }
+
+            @Override
+            public LongStream stream() {
+                return list.stream().asLongStream();
+            }
+        };
+    }
+
+    @Test
+    void valuesKeepTheirFullIntRange() {
+        CustomIntList list = new CustomIntListImpl();
+        list.addLast(Integer.MAX_VALUE);
+        list.addFirst(Integer.MIN_VALUE);
+
+        assertEquals(Integer.MIN_VALUE, list.removeFirstInt());
+        assertEquals(Integer.MAX_VALUE, list.stream().max().getAsInt());
+    }
+}
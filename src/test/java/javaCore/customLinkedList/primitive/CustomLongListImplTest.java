@@ -0,0 +1,90 @@
+package javaCore.customLinkedList.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CustomLongListImplTest extends AbstractPrimitiveListTest {
+
+    @Override
+    protected LongView createList(int initialCapacity) {
+        CustomLongList list = new CustomLongListImpl(initialCapacity);
+        return new LongView() {
+
+            @Override
+            public int size() {
+                return list.size();
+            }
+
+            @Override
+            public void addFirst(long e) {
+                list.addFirst(e);
+            }
+
+            @Override
+            public void addLast(long e) {
+                list.addLast(e);
+            }
+
+            @Override
+            public void add(int index, long e) {
+                list.add(index, e);
+            }
+
+            @Override
+            public long getFirst() {
+                return list.getFirstLong();
+            }
+
+            @Override
+            public long getLast() {
+                return list.getLastLong();
+            }
+
+            @Override
+            public long get(int index) {
+                return list.getLong(index);
+            }
+
+            @Override
+            public long removeFirst() {
+                return list.removeFirstLong();
+            }
+
+            @Override
+            public long removeLast() {
+                return list.removeLastLong();
+            }
+
+            @Override
+            public long remove(int index) {
+                return list.removeLong(index);
+            }
+
+            @Override
+            public PrimitiveIterator.OfLong iterator() {
+                return list.iterator();
+            }
+
+            @Override
+            public LongStream stream() {
+                return list.stream();
+            }
+        };
+    }
+
+    @Test
+    void valuesBeyondIntRangeArePreserved() {
+        CustomLongList list = new CustomLongListImpl(2);
+        list.addLast(Long.MAX_VALUE);
+        list.addFirst(Long.MIN_VALUE);
+        list.add(1, 1L << 40);
+
+        assertEquals(1L << 40, list.getLong(1));
+        assertEquals(Long.MIN_VALUE, list.removeFirstLong());
+        assertEquals(Long.MAX_VALUE, list.stream().max().getAsLong());
+    }
+}
@@ -0,0 +1,119 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Category;
+import javaCore.metrics.entity.Customer;
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+import javaCore.metrics.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FixedPointMetricsImplTest extends MetricsImplTest {
+
+    private final MetricsImpl reference = new MetricsImpl();
+    private final MetricsImpl fixedPoint = new MetricsImpl(MoneyMode.FIXED_POINT);
+
+    @Override
+    protected Metrics createMetrics() {
+        return new MetricsImpl(MoneyMode.FIXED_POINT);
+    }
+
+    @Test
+    void moneyTotalsMatchBigDecimalMode() {
+        for (long seed = 0; seed < 20; seed++) {
+            List<Order> orders = RandomOrders.generate(seed, 500, 30, 10);
+
+            assertEquals(reference.totalIncomeForAllCompletedOrders(orders),
+                         fixedPoint.totalIncomeForAllCompletedOrders(orders));
+            assertEquals(reference.avgCheckSumForDeliveredOrders(orders),
+                         fixedPoint.avgCheckSumForDeliveredOrders(orders));
+        }
+    }
+
+    @Test
+    void scaleAndRoundingMatchBigDecimalMode() {
+        double[][] pricesAndQuantities = {
+                {40, 1}, {0.5, 3}, {0.125, 1}, {1.005, 1}, {0.001, 7}, {9_999_999.999999, 1}, {0, 4}, {33.335, 2}
+        };
+        for (double[] priceAndQuantity : pricesAndQuantities) {
+            OrderItem item = item(priceAndQuantity[0], (int) priceAndQuantity[1]);
+            List<Order> orders = List.of(order(OrderStatus.DELIVERED, item),
+                                         order(OrderStatus.DELIVERED, item(0.01, 1)),
+                                         order(OrderStatus.SHIPPED, item(2.5, 1)));
+
+            assertEquals(reference.totalIncomeForAllCompletedOrders(orders),
+                         fixedPoint.totalIncomeForAllCompletedOrders(orders));
+            assertEquals(reference.avgCheckSumForDeliveredOrders(orders),
+                         fixedPoint.avgCheckSumForDeliveredOrders(orders));
+        }
+    }
+
+    @Test
+    void unsupportedPricesAndOverflowFallBackToBigDecimal() {
+        double[][] pricesAndQuantities = {{0.0001, 3}, {1.2345678, 2}, {2e7, 1}, {9_000_000, Integer.MAX_VALUE}};
+        for (double[] priceAndQuantity : pricesAndQuantities) {
+            List<Order> orders = new ArrayList<>();
+            orders.add(order(OrderStatus.DELIVERED, item(priceAndQuantity[0], (int) priceAndQuantity[1])));
+            for (int i = 0; i < 2_000; i++) {
+                orders.add(order(OrderStatus.DELIVERED, item(9_000_000, Integer.MAX_VALUE)));
+            }
+
+            assertEquals(reference.totalIncomeForAllCompletedOrders(orders),
+                         fixedPoint.totalIncomeForAllCompletedOrders(orders));
+            assertEquals(reference.avgCheckSumForDeliveredOrders(orders),
+                         fixedPoint.avgCheckSumForDeliveredOrders(orders));
+        }
+    }
+
+    @Test
+    void moneyTotalsAllocateFarLessThanBigDecimalMode() {
+        List<Order> orders = RandomOrders.generate(3, 10_000, 30, 10);
+
+        long fixedPointBytes = allocatedBytes(() -> fixedPoint.totalIncomeForAllCompletedOrders(orders));
+        long bigDecimalBytes = allocatedBytes(() -> reference.totalIncomeForAllCompletedOrders(orders));
+
+        assertTrue(fixedPointBytes * 10 < bigDecimalBytes,
+                   "Allocated bytes: " + fixedPointBytes + " vs " + bigDecimalBytes);
+    }
+
+    private long allocatedBytes(Runnable operation) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 20; i++) {
+            operation.run();
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        operation.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    @Test
+    void constructorShouldThrowWhenMoneyModeIsNull() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new MetricsImpl(null));
+    }
+
+    private Order order(OrderStatus status, OrderItem item) {
+        return Order.builder()
+                    .orderId("1")
+                    .customer(Customer.builder().customerId("1").city("Minsk").build())
+                    .items(List.of(item))
+                    .status(status)
+                    .build();
+    }
+
+    private OrderItem item(double price, int quantity) {
+        return OrderItem.builder()
+                        .productName("Product")
+                        .quantity(quantity)
+                        .price(price)
+                        .category(Category.HOME)
+                        .build();
+    }
+}
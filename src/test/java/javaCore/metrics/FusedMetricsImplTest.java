@@ -0,0 +1,64 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FusedMetricsImplTest extends MetricsImplTest {
+
+    private final MetricsImpl reference = new MetricsImpl();
+    private final FusedMetricsImpl fused = new FusedMetricsImpl();
+
+    @Override
+    protected Metrics createMetrics() {
+        return new FusedMetricsImpl();
+    }
+
+    @Test
+    void reportMatchesSequentialMetricsIncludingTies() {
+        for (int products : new int[]{3, 13, 50, 700}) {
+            for (long seed = 0; seed < 10; seed++) {
+                List<Order> orders = RandomOrders.generate(seed, 1 + (int) seed * 150, products, 20);
+
+                MetricsReport report = fused.report(orders);
+
+                assertEquals(reference.getUniqueOrderCities(orders), report.uniqueOrderCities());
+                assertEquals(reference.totalIncomeForAllCompletedOrders(orders),
+                             report.totalIncomeForAllCompletedOrders());
+                assertEquals(reference.mostPopularProductBySales(orders), report.mostPopularProductBySales());
+                assertEquals(reference.avgCheckSumForDeliveredOrders(orders), report.avgCheckSumForDeliveredOrders());
+                for (int amount = 1; amount < 12; amount++) {
+                    assertEquals(reference.getAllCustomersWithOrdersAmountGreaterThan(orders, amount),
+                                 report.customersWithOrdersAmountGreaterThan(amount));
+                }
+            }
+        }
+    }
+
+    @Test
+    void reportHasNoMostPopularProductWithoutSales() {
+        assertNull(fused.report(List.of()).mostPopularProductBySales());
+    }
+
+    @Test
+    void combinedAccumulatorsMatchSinglePass() {
+        List<Order> orders = RandomOrders.generate(7, 3_000, 40, 30);
+        for (int parts : new int[]{2, 3, 17}) {
+            MetricsAccumulator combined = new MetricsAccumulator();
+            int step = orders.size() / parts;
+            for (int from = 0; from < orders.size(); from += step) {
+                MetricsAccumulator part = new MetricsAccumulator();
+                orders.subList(from, Math.min(orders.size(), from + step)).forEach(part::accept);
+                combined.combine(part);
+            }
+
+            assertEquals(fused.report(orders), combined.report());
+            assertEquals(reference.mostPopularProductBySales(orders),
+                         combined.report().mostPopularProductBySales());
+        }
+    }
+}
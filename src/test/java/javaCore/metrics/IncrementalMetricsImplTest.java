@@ -0,0 +1,142 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+import javaCore.metrics.entity.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IncrementalMetricsImplTest {
+
+    private final MetricsImpl reference = new MetricsImpl();
+
+    @Test
+    void deliveredOrderCancelledLaterLeavesTotals() {
+        IncrementalMetrics metrics = new IncrementalMetricsImpl();
+        List<Order> orders = RandomOrders.generate(1, 2, 5, 2);
+        orders.get(0).setStatus(OrderStatus.DELIVERED);
+        orders.get(1).setStatus(OrderStatus.NEW);
+        orders.forEach(metrics::onOrder);
+        BigDecimal delivered = MetricsCalculations.totalByOrder(orders.get(0)).max(BigDecimal.ZERO);
+        assertEquals(reference.totalIncomeForAllCompletedOrders(orders), metrics.totalIncomeForAllCompletedOrders());
+        assertEquals(0, delivered.compareTo(metrics.totalIncomeForAllCompletedOrders()));
+
+        metrics.onStatusChange(orders.get(0).getOrderId(), OrderStatus.CANCELLED);
+
+        assertEquals(BigDecimal.ZERO, metrics.totalIncomeForAllCompletedOrders());
+        assertEquals(BigDecimal.ZERO, metrics.avgCheckSumForDeliveredOrders());
+    }
+
+    @Test
+    void randomEventsMatchFullRecomputation() {
+        Random random = new Random(25);
+        OrderStatus[] statuses = OrderStatus.values();
+        for (long seed = 0; seed < 5; seed++) {
+            IncrementalMetrics metrics = new IncrementalMetricsImpl();
+            List<Order> generated = RandomOrders.generate(seed, 600, 12, 15);
+            List<Order> current = new ArrayList<>();
+            for (Order order : generated) {
+                metrics.onOrder(order);
+                current.add(order);
+                for (int changes = random.nextInt(3); changes > 0; changes--) {
+                    Order changed = current.get(random.nextInt(current.size()));
+                    OrderStatus status = statuses[random.nextInt(statuses.length)];
+                    metrics.onStatusChange(changed.getOrderId(), status);
+                    changed.setStatus(status);
+                }
+                assertMatchesRecomputation(metrics, current);
+            }
+        }
+    }
+
+    private void assertMatchesRecomputation(IncrementalMetrics metrics, List<Order> orders) {
+        assertEquals(reference.getUniqueOrderCities(orders), metrics.getUniqueOrderCities());
+        assertEquals(reference.totalIncomeForAllCompletedOrders(orders), metrics.totalIncomeForAllCompletedOrders());
+        assertEquals(reference.avgCheckSumForDeliveredOrders(orders), metrics.avgCheckSumForDeliveredOrders());
+        assertEquals(reference.getAllCustomersWithOrdersAmountGreaterThan(orders, 30),
+                     metrics.getAllCustomersWithOrdersAmountGreaterThan(30));
+
+        Map<String, Integer> sales = new HashMap<>();
+        orders.stream()
+              .filter(o -> o.getStatus() != OrderStatus.CANCELLED)
+              .flatMap(o -> o.getItems().stream())
+              .forEach(item -> sales.merge(item.getProductName(), item.getQuantity(), Integer::sum));
+        if (sales.isEmpty()) {
+            assertThrowsExactly(NoSuchElementException.class, metrics::mostPopularProductBySales);
+        } else {
+            assertEquals(sales.get(reference.mostPopularProductBySales(orders)),
+                         sales.get(metrics.mostPopularProductBySales()));
+        }
+    }
+
+    @Test
+    void tiedProductsResolveToFirstReachingTheAmount() {
+        IncrementalMetrics metrics = new IncrementalMetricsImpl();
+        List<Order> orders = RandomOrders.generate(3, 2, 1, 1);
+        metrics.onOrder(withItem(orders.get(0), "Book", 2));
+        metrics.onOrder(withItem(orders.get(1), "Pen", 2));
+
+        assertEquals("Book", metrics.mostPopularProductBySales());
+
+        metrics.onStatusChange(orders.get(0).getOrderId(), OrderStatus.CANCELLED);
+        assertEquals("Pen", metrics.mostPopularProductBySales());
+
+        metrics.onStatusChange(orders.get(1).getOrderId(), OrderStatus.CANCELLED);
+        assertThrowsExactly(NoSuchElementException.class, metrics::mostPopularProductBySales);
+    }
+
+    @Test
+    void itemsChangedAfterArrivalDontAffectRetraction() {
+        IncrementalMetrics metrics = new IncrementalMetricsImpl();
+        List<Order> orders = RandomOrders.generate(5, 2, 1, 1);
+        Order changed = withItem(orders.get(0), "Book", 3);
+        metrics.onOrder(changed);
+        metrics.onOrder(withItem(orders.get(1), "Pen", 2));
+
+        OrderItem item = changed.getItems().get(0);
+        item.setProductName("Pen");
+        item.setQuantity(1);
+        metrics.onStatusChange(changed.getOrderId(), OrderStatus.CANCELLED);
+
+        assertEquals("Pen", metrics.mostPopularProductBySales());
+        metrics.onStatusChange(orders.get(1).getOrderId(), OrderStatus.CANCELLED);
+        assertThrowsExactly(NoSuchElementException.class, metrics::mostPopularProductBySales);
+    }
+
+    @Test
+    void shouldRejectIncorrectEvents() {
+        IncrementalMetrics metrics = new IncrementalMetricsImpl();
+        Order order = RandomOrders.generate(4, 1, 3, 1).get(0);
+        metrics.onOrder(order);
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> metrics.onOrder(order));
+        assertThrowsExactly(NoSuchElementException.class, () -> metrics.onStatusChange("unknown", OrderStatus.NEW));
+        assertThrowsExactly(IllegalArgumentException.class, () -> metrics.onStatusChange(order.getOrderId(), null));
+        assertThrowsExactly(IllegalArgumentException.class,
+                            () -> metrics.getAllCustomersWithOrdersAmountGreaterThan(0));
+        assertTrue(metrics.getAllCustomersWithOrdersAmountGreaterThan(1).isEmpty());
+        assertEquals(List.of(order.getCustomer().getCity()), metrics.getUniqueOrderCities());
+    }
+
+    private Order withItem(Order order, String product, int quantity) {
+        OrderItem item = OrderItem.builder()
+                                  .productName(product)
+                                  .quantity(quantity)
+                                  .price(10)
+                                  .build();
+        order.setItems(List.of(item));
+        order.setStatus(OrderStatus.NEW);
+        return order;
+    }
+}
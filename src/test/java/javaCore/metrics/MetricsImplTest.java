@@ -29,9 +29,13 @@ class MetricsImplTest {
 
     private List<Order> orders;
     private Map<String, ItemRecord> items;
-    private Metrics metrics = new MetricsImpl();
+    private final Metrics metrics = createMetrics();
     private Map<String, Customer> customers;
 
+    protected Metrics createMetrics() {
+        return new MetricsImpl();
+    }
+
     @BeforeEach
     void init() {
         customers = new HashMap<>();
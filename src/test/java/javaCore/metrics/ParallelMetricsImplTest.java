@@ -0,0 +1,55 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+class ParallelMetricsImplTest extends MetricsImplTest {
+
+    private final MetricsImpl reference = new MetricsImpl();
+
+    @Override
+    protected Metrics createMetrics() {
+        return new ParallelMetricsImpl();
+    }
+
+    @Test
+    void parallelResultsMatchSequentialOnes() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelMetricsImpl parallel = new ParallelMetricsImpl(pool);
+            for (long seed = 0; seed < 3; seed++) {
+                List<Order> orders = RandomOrders.generate(seed, 60_000, 2_000, 500);
+
+                assertEquals(reference.getUniqueOrderCities(orders), parallel.getUniqueOrderCities(orders));
+                assertEquals(reference.totalIncomeForAllCompletedOrders(orders),
+                             parallel.totalIncomeForAllCompletedOrders(orders));
+                assertEquals(reference.mostPopularProductBySales(orders), parallel.mostPopularProductBySales(orders));
+                assertEquals(reference.avgCheckSumForDeliveredOrders(orders),
+                             parallel.avgCheckSumForDeliveredOrders(orders));
+                assertEquals(reference.getAllCustomersWithOrdersAmountGreaterThan(orders, 120),
+                             parallel.getAllCustomersWithOrdersAmountGreaterThan(orders, 120));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void reportOfSequentialListsMatchesFusedOne() {
+        List<Order> orders = new LinkedList<>(RandomOrders.generate(11, 20_000, 300, 50));
+
+        assertEquals(new FusedMetricsImpl().report(orders), new ParallelMetricsImpl().report(orders));
+    }
+
+    @Test
+    void constructorShouldThrowWhenPoolIsNull() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> new ParallelMetricsImpl(null));
+    }
+}
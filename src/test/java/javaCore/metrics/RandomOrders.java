@@ -0,0 +1,62 @@
+package javaCore.metrics;
+
+import javaCore.metrics.entity.Category;
+import javaCore.metrics.entity.Customer;
+import javaCore.metrics.entity.Order;
+import javaCore.metrics.entity.OrderItem;
+import javaCore.metrics.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible random orders for comparing {@link Metrics} implementations with {@link MetricsImpl}.
+ * Quantities are small and occasionally negative, so product ties and non-positive totals are common.
+ */
+final class RandomOrders {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private RandomOrders() {
+    }
+
+    static List<Order> generate(long seed, int count, int products, int customers) {
+        Random random = new Random(seed);
+        List<Customer> customerList = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            customerList.add(Customer.builder()
+                                     .customerId("C-" + i)
+                                     .name("Customer " + i)
+                                     .city("City-" + random.nextInt(Math.max(1, customers / 2)))
+                                     .age(18 + random.nextInt(60))
+                                     .registeredAt(START)
+                                     .build());
+        }
+
+        OrderStatus[] statuses = OrderStatus.values();
+        Category[] categories = Category.values();
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            int itemCount = 1 + random.nextInt(4);
+            for (int j = 0; j < itemCount; j++) {
+                items.add(OrderItem.builder()
+                                   .productName("Product-" + random.nextInt(products))
+                                   .quantity(random.nextInt(10) == 0 ? -1 : 1 + random.nextInt(3))
+                                   .price(random.nextInt(100_000) / 100.0)
+                                   .category(categories[random.nextInt(categories.length)])
+                                   .build());
+            }
+            orders.add(Order.builder()
+                            .orderId(String.valueOf(i))
+                            .orderDate(START.plusMinutes(i))
+                            .customer(customerList.get(random.nextInt(customers)))
+                            .items(items)
+                            .status(statuses[random.nextInt(statuses.length)])
+                            .build());
+        }
+        return orders;
+    }
+}